@@ -1,16 +1,39 @@
 package com.yourcompany.yourproject.base;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
+
+import java.util.List;
 
 public abstract class BaseComponent {
     protected WebDriver driver;
 
     public BaseComponent(WebDriver driver) {
+        this(driver, true);
+    }
+
+    // verifyNow=false skips isLoaded() for a page that verifies its components in one batch with
+    // ComponentTreeVerifier once it is ready
+    protected BaseComponent(WebDriver driver, boolean verifyNow) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
-        isLoaded();
+        PageElements.initElements(driver, this);
+        if (verifyNow) {
+            isLoaded();
+        }
     }
 
     protected abstract void isLoaded();
+
+    // Elements that must be rendered before isLoaded() is worth calling; probed in one batch with siblings
+    protected List<By> loadIndicators() {
+        return List.of();
+    }
+
+    protected List<BaseComponent> children() {
+        return List.of();
+    }
+
+    public String getName() {
+        return getClass().getSimpleName();
+    }
 }
@@ -1,13 +1,212 @@
 package com.yourcompany.yourproject.base;
 
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.EvidencePipeline;
+import com.yourcompany.yourproject.utils.Instrumentation;
+import com.yourcompany.yourproject.utils.ScriptSupport;
+import com.yourcompany.yourproject.utils.WaitUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class BasePage {
+    // Returns the indexes it could not fill so they can be retried with native events
+    private static final String FILL_FORM_SCRIPT =
+            "var fields = arguments[0], missed = [];"
+            + "for (var i = 0; i < fields.length; i++) {"
+            + "  var f = fields[i], el = null;"
+            + "  if (f[0] === 'css selector') { el = document.querySelector(f[1]); }"
+            + "  else if (f[0] === 'xpath') { el = document.evaluate(f[1], document, null,"
+            + "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue; }"
+            + "  var proto = el instanceof HTMLInputElement ? HTMLInputElement.prototype"
+            + "      : el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "      : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : null;"
+            + "  if (!proto || el.disabled || el.readOnly || el.type === 'file') { missed.push(i); continue; }"
+            + "  el.focus();"
+            + "  if (el.type === 'checkbox' || el.type === 'radio') {"
+            + "    if (el.checked !== (f[2] === 'true')) { el.click(); }"
+            + "  } else {"
+            + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, f[2]);"
+            + "    el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "    el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  }"
+            + "  el.blur();"
+            + "}"
+            + "return missed;";
+
+    // Named conditions: wait statistics group by toString(), which a lambda makes unique per instance
+    private static final ExpectedCondition<Boolean> DOCUMENT_INTERACTIVE =
+            new ScriptCondition("document interactive", "return document.readyState !== 'loading'");
+    private static final ExpectedCondition<Boolean> DOCUMENT_COMPLETE =
+            new ScriptCondition("document complete", "return document.readyState === 'complete'");
+
     protected WebDriver driver;
+    private final ElementCache elements;
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        this.elements = new ElementCache(driver);
+        Instrumentation.enterPage(getClass().getSimpleName());
+        PageElements.initElements(driver, this);
+    }
+
+    public void open(String url) {
+        elements.invalidate();
+        driver.get(url);
+        waitUntilReady();
+        EvidencePipeline.onNavigation(driver, url);
+    }
+
+    // Resolved once and reused while the DOM generation is unchanged; set page.element.cache=false to bypass
+    protected WebElement element(By locator) {
+        if (!ConfigReader.snapshot().pageElementCache()) {
+            return driver.findElement(locator);
+        }
+        return elements.get(locator);
+    }
+
+    // Readiness contract: the session runs on the eager page load strategy, so driver.get returns
+    // at DOMContentLoaded and this decides when the page is usable. Pages that declare nothing
+    // still wait for readyState complete; subclasses override the parts they need.
+    public void waitUntilReady() {
+        Duration timeout = ConfigReader.snapshot().pageReadyTimeout();
+        PageLoadStrategy strategy = loadStrategy();
+        if (strategy != PageLoadStrategy.NONE) {
+            WaitUtils.forDriver(driver).until(
+                    strategy == PageLoadStrategy.EAGER ? DOCUMENT_INTERACTIVE : DOCUMENT_COMPLETE, timeout);
+        }
+        for (By locator : keyElements()) {
+            WaitUtils.waitForElementVisible(driver, locator, timeout);
+        }
+        if (waitForNetworkIdle()) {
+            WaitUtils.forDriver(driver).until(new NetworkIdle(), timeout);
+        }
+        String readyScript = readyScript();
+        if (readyScript != null) {
+            WaitUtils.forDriver(driver).until(
+                    new ScriptCondition(getClass().getSimpleName() + " ready script", readyScript), timeout);
+        }
+    }
+
+    protected PageLoadStrategy loadStrategy() {
+        return PageLoadStrategy.NORMAL;
+    }
+
+    protected List<By> keyElements() {
+        return List.of();
+    }
+
+    protected boolean waitForNetworkIdle() {
+        return false;
+    }
+
+    // Script returning true once the page is ready, e.g. "return window.appReady === true"
+    protected String readyScript() {
+        return null;
+    }
+
+    // True once the script returns true; always true on a driver that cannot run scripts
+    private static final class ScriptCondition implements ExpectedCondition<Boolean> {
+        private final String name;
+        private final String script;
+
+        private ScriptCondition(String name, String script) {
+            this.name = name;
+            this.script = script;
+        }
+
+        @Override
+        public Boolean apply(WebDriver d) {
+            return !ScriptSupport.isAvailable(d)
+                    || Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(script));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    // Counts resources through a PerformanceObserver, which unlike the resource timing buffer
+    // does not stop at 250 entries; the buffer is only the fallback for browsers without one
+    private static final String RESOURCE_COUNT_SCRIPT =
+            "var w = window;"
+            + "if (w.__resourceCount === undefined) {"
+            + "  w.__resourceCount = performance.getEntriesByType('resource').length;"
+            + "  if (typeof PerformanceObserver === 'function') {"
+            + "    new PerformanceObserver(function (list) { w.__resourceCount += list.getEntries().length; })"
+            + "        .observe({type: 'resource'});"
+            + "  } else {"
+            + "    performance.setResourceTimingBufferSize(100000);"
+            + "    w.__resourceCount = null;"
+            + "  }"
+            + "}"
+            + "return w.__resourceCount === null ? performance.getEntriesByType('resource').length"
+            + "    : w.__resourceCount;";
+
+    // Idle once no new resources load for page.network.idle.ms
+    private static final class NetworkIdle implements ExpectedCondition<Boolean> {
+        private long lastCount = -1;
+        private long lastChange = System.nanoTime();
+
+        @Override
+        public Boolean apply(WebDriver d) {
+            if (!ScriptSupport.isAvailable(d)) {
+                return true;
+            }
+            Object count = ((JavascriptExecutor) d).executeScript(RESOURCE_COUNT_SCRIPT);
+            long current = count instanceof Number ? ((Number) count).longValue() : 0;
+            if (current != lastCount) {
+                lastCount = current;
+                lastChange = System.nanoTime();
+                return false;
+            }
+            return System.nanoTime() - lastChange >= ConfigReader.snapshot().networkIdle().toNanos();
+        }
+
+        @Override
+        public String toString() {
+            return "network idle";
+        }
+    }
+
+    // Fills every field in one executeScript round trip; pass a LinkedHashMap to keep field order
+    protected void fillForm(Map<By, String> values) {
+        List<Map.Entry<By, String>> nativeFields = new ArrayList<>();
+        List<Map.Entry<By, String>> batched = new ArrayList<>();
+        List<List<String>> batch = new ArrayList<>();
+        boolean nativeOnly = ConfigReader.snapshot().formFillNative();
+        boolean scripts = ScriptSupport.isAvailable(driver);
+        for (Map.Entry<By, String> field : values.entrySet()) {
+            if (!nativeOnly && scripts && field.getKey() instanceof By.Remotable) {
+                By.Remotable.Parameters parameters = ((By.Remotable) field.getKey()).getRemoteParameters();
+                batch.add(List.of(parameters.using(), String.valueOf(parameters.value()), field.getValue()));
+                batched.add(field);
+            } else {
+                nativeFields.add(field);
+            }
+        }
+        if (!batch.isEmpty()) {
+            Object missed = ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, batch);
+            elements.markDirty();
+            if (missed instanceof List) {
+                for (Object index : (List<?>) missed) {
+                    nativeFields.add(batched.get(((Number) index).intValue()));
+                }
+            }
+        }
+        for (Map.Entry<By, String> field : nativeFields) {
+            WebElement element = element(field.getKey());
+            element.clear();
+            element.sendKeys(field.getValue());
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.yourcompany.yourproject.base;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.Instrumentation;
+import com.yourcompany.yourproject.utils.PollingPolicy;
+import com.yourcompany.yourproject.utils.ScriptSupport;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Verifies a component tree level by level: all siblings are probed together in one script call,
+// retried with backoff until a deadline, then each component's own isLoaded() runs.
+public class ComponentTreeVerifier {
+    // Returns one boolean per component: true when every indicator is present and rendered
+    private static final String PROBE_SCRIPT =
+            "var groups = arguments[0], result = [];"
+            + "function rendered(l) {"
+            + "  var el = l[0] === 'css selector' ? document.querySelector(l[1])"
+            + "      : document.evaluate(l[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  return !!el && el.getClientRects().length > 0 && getComputedStyle(el).visibility !== 'hidden';"
+            + "}"
+            + "for (var i = 0; i < groups.length; i++) {"
+            + "  var ok = true;"
+            + "  for (var j = 0; j < groups[i].length && ok; j++) { ok = rendered(groups[i][j]); }"
+            + "  result.push(ok);"
+            + "}"
+            + "return result;";
+
+    public static Map<String, Duration> verify(WebDriver driver, BaseComponent... components) {
+        return verify(driver, ConfigReader.snapshot().componentLoadTimeout(),
+                List.of(components));
+    }
+
+    public static Map<String, Duration> verify(WebDriver driver, Duration timeout, List<BaseComponent> components) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Map<String, Duration> loadTimes = new LinkedHashMap<>();
+        List<BaseComponent> level = components;
+        while (!level.isEmpty()) {
+            verifyLevel(driver, level, start, deadline, loadTimes);
+            List<BaseComponent> next = new ArrayList<>();
+            for (BaseComponent component : level) {
+                next.addAll(component.children());
+            }
+            level = next;
+        }
+        return loadTimes;
+    }
+
+    private static void verifyLevel(WebDriver driver, List<BaseComponent> level, long start, long deadline,
+                                    Map<String, Duration> loadTimes) {
+        List<BaseComponent> pending = new ArrayList<>(level);
+        PollingPolicy polling = ConfigReader.snapshot().pollingPolicy();
+        Duration interval = polling.initial();
+        while (true) {
+            List<Boolean> probed = probe(driver, pending);
+            long now = System.nanoTime();
+            List<BaseComponent> stillPending = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                BaseComponent component = pending.get(i);
+                if (probed.get(i) && passes(component, now >= deadline)) {
+                    Duration elapsed = Duration.ofNanos(now - start);
+                    loadTimes.put(component.getName(), elapsed);
+                    Instrumentation.record(Instrumentation.COMPONENT, component.getName(), elapsed.toNanos());
+                } else {
+                    stillPending.add(component);
+                }
+            }
+            pending = stillPending;
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (now >= deadline) {
+                List<String> names = new ArrayList<>();
+                pending.forEach(component -> names.add(component.getName()));
+                throw new AssertionError("Components failed to load: " + names);
+            }
+            sleep(Math.min(interval.toNanos(), deadline - now));
+            interval = polling.next(interval);
+        }
+    }
+
+    private static boolean passes(BaseComponent component, boolean lastAttempt) {
+        try {
+            component.isLoaded();
+            return true;
+        } catch (RuntimeException | AssertionError e) {
+            if (lastAttempt) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    private static List<Boolean> probe(WebDriver driver, List<BaseComponent> components) {
+        List<List<List<String>>> groups = new ArrayList<>();
+        boolean scriptable = ScriptSupport.isAvailable(driver);
+        for (BaseComponent component : components) {
+            List<List<String>> indicators = new ArrayList<>();
+            for (By locator : component.loadIndicators()) {
+                By.Remotable.Parameters parameters = locator instanceof By.Remotable
+                        ? ((By.Remotable) locator).getRemoteParameters() : null;
+                if (parameters == null
+                        || !("css selector".equals(parameters.using()) || "xpath".equals(parameters.using()))) {
+                    scriptable = false;
+                    break;
+                }
+                indicators.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+            }
+            groups.add(indicators);
+        }
+        List<Boolean> result = new ArrayList<>();
+        Object probed = scriptable ? ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, groups) : null;
+        for (int i = 0; i < components.size(); i++) {
+            // Without a usable probe, fall back to the component's own isLoaded() alone
+            result.add(!(probed instanceof List) || Boolean.TRUE.equals(((List<?>) probed).get(i)));
+        }
+        return result;
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying components", e);
+        }
+    }
+}
@@ -1,31 +1,259 @@
 package com.yourcompany.yourproject.base;
 
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
 import com.yourcompany.yourproject.enums.BrowserType;
+import com.yourcompany.yourproject.utils.AsyncTasks;
+import com.yourcompany.yourproject.utils.CommandTimingListener;
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.ConfigSnapshot;
+import com.yourcompany.yourproject.utils.Instrumentation;
+import com.yourcompany.yourproject.utils.ScriptSupport;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class DriverManager {
-    private static WebDriver driver;
+    private static final Logger LOG = Logger.getLogger(DriverManager.class.getName());
+    private static final Map<BrowserType, DriverPool> pools = new EnumMap<>(BrowserType.class);
+    // One ceiling for every browser type, so tag routing cannot multiply driver.pool.max.sessions
+    private static SessionLimit sessionLimit;
+    private static final ThreadLocal<Lease> lease = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> freshSession = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<BrowserType> route = new ThreadLocal<>();
+    private static volatile Function<BrowserType, WebDriver> driverFactory = DriverManager::createDriver;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdown));
+    }
 
     public static WebDriver getDriver(BrowserType browser) {
-        if (driver == null) {
-            switch (browser) {
-                case FIREFOX:
-                    driver = new FirefoxDriver();
-                    break;
-                case CHROME:
-                default:
-                    driver = new ChromeDriver();
-            }
+        Lease current = lease.get();
+        if (current == null) {
+            DriverPool pool = poolFor(route.get() != null ? route.get() : browser);
+            route.remove();
+            current = new Lease(pool, pool.checkout(freshSession.get()));
+            freshSession.remove();
+            lease.set(current);
+        }
+        return current.driver;
+    }
+
+    // The driver leased by this thread, or null; never starts a session
+    public static WebDriver currentDriver() {
+        Lease current = lease.get();
+        return current == null ? null : current.driver;
+    }
+
+    public static void releaseDriver() {
+        clearRequests();
+        Lease current = lease.get();
+        if (current != null) {
+            lease.remove();
+            current.pool.release(current.driver);
+        }
+    }
+
+    public static boolean isSessionReuseEnabled() {
+        return ConfigReader.snapshot().driverSessionReuse();
+    }
+
+    public static void requireFreshSession() {
+        freshSession.set(true);
+    }
+
+    // Overrides the browser requested by the next getDriver call on this thread
+    public static void routeTo(BrowserType browser) {
+        if (browser == null) {
+            route.remove();
+        } else {
+            route.set(browser);
+        }
+    }
+
+    public static void recycleDriver() {
+        clearRequests();
+        Lease current = lease.get();
+        if (current == null) {
+            return;
+        }
+        lease.remove();
+        if (resetSession(current.driver)) {
+            current.pool.release(current.driver);
+        } else {
+            current.pool.invalidate(current.driver);
         }
-        return driver;
     }
 
     public static void quitDriver() {
-        if (driver != null) {
-            driver.quit();
-            driver = null;
+        clearRequests();
+        Lease current = lease.get();
+        if (current != null) {
+            lease.remove();
+            current.pool.invalidate(current.driver);
+        }
+    }
+
+    // Replaces real browsers, e.g. with an in-memory stub; affects sessions created from now on
+    public static void setDriverFactory(Function<BrowserType, WebDriver> factory) {
+        driverFactory = factory == null ? DriverManager::createDriver : factory;
+    }
+
+    // Callers usually fire and forget, so each failed start is logged here; a scenario then simply
+    // starts its own browser
+    public static CompletableFuture<Void> warmUp(BrowserType browser, int sessions) {
+        if (sessions < 1) {
+            return CompletableFuture.completedFuture(null);
+        }
+        DriverPool pool = poolFor(browser);
+        CompletableFuture<?>[] starts = new CompletableFuture<?>[sessions];
+        for (int i = 0; i < sessions; i++) {
+            starts[i] = AsyncTasks.supply(pool::prewarm).whenComplete((started, e) -> {
+                if (e != null) {
+                    LOG.log(Level.WARNING, "Warm-up of a " + browser + " session failed",
+                            e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                }
+            });
+        }
+        return CompletableFuture.allOf(starts);
+    }
+
+    public static synchronized void shutdown() {
+        pools.values().forEach(DriverPool::shutdown);
+    }
+
+    static WebDriver createDriver(BrowserType browser) {
+        boolean headless = ConfigReader.snapshot().driverHeadless();
+        PageLoadStrategy pageLoadStrategy = ConfigReader.snapshot().pageLoadStrategy();
+        // Set once per session; EventDrivenWait sizes its page-side timers to fit inside it
+        Duration scriptTimeout = ConfigReader.snapshot().scriptTimeout();
+        switch (browser) {
+            case FIREFOX:
+            case FIREFOX_HEADLESS:
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.setPageLoadStrategy(pageLoadStrategy);
+                firefoxOptions.setScriptTimeout(scriptTimeout);
+                if (headless || browser == BrowserType.FIREFOX_HEADLESS) {
+                    firefoxOptions.addArguments("-headless");
+                }
+                return new FirefoxDriver(firefoxOptions);
+            case CHROME_LITE:
+                ChromeOptions liteOptions = liteChromeOptions();
+                liteOptions.setPageLoadStrategy(pageLoadStrategy);
+                liteOptions.setScriptTimeout(scriptTimeout);
+                return new ChromeDriver(liteOptions);
+            case HTMLUNIT:
+                return createHtmlUnitDriver();
+            case CHROME:
+            case CHROME_HEADLESS:
+            default:
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.setPageLoadStrategy(pageLoadStrategy);
+                chromeOptions.setScriptTimeout(scriptTimeout);
+                if (headless || browser == BrowserType.CHROME_HEADLESS) {
+                    chromeOptions.addArguments("--headless=new");
+                }
+                return new ChromeDriver(chromeOptions);
+        }
+    }
+
+    private static WebDriver newSession(BrowserType browser) {
+        WebDriver driver = NetworkInterception.apply(driverFactory.apply(browser));
+        return Instrumentation.isEnabled() ? CommandTimingListener.instrument(driver) : driver;
+    }
+
+    private static ChromeOptions liteChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--disable-gpu", "--disable-extensions",
+                "--disable-dev-shm-usage", "--blink-settings=imagesEnabled=false",
+                "--disable-background-networking", "--mute-audio", "--window-size=1024,768");
+        options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        return options;
+    }
+
+    // Loaded reflectively so HtmlUnit stays an optional dependency
+    private static WebDriver createHtmlUnitDriver() {
+        try {
+            Class<?> type = Class.forName("org.openqa.selenium.htmlunit.HtmlUnitDriver");
+            return (WebDriver) type.getConstructor(boolean.class).newInstance(false);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "BrowserType.HTMLUNIT needs org.seleniumhq.selenium:htmlunit3-driver on the test classpath", e);
+        }
+    }
+
+    private static boolean resetSession(WebDriver driver) {
+        try {
+            List<String> handles = List.copyOf(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+            driver.manage().deleteAllCookies();
+            // deleteAllCookies only reaches the current domain. Chromium can drop every domain's
+            // cookies in one DevTools command; other browsers keep cookies set on other domains.
+            clearAllCookies(driver);
+            // Storage is per origin and only the last page's origin is cleared; a scenario that
+            // stores data on several origins should be tagged @freshBrowser
+            if (ScriptSupport.isAvailable(driver)) {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static void clearAllCookies(WebDriver driver) {
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        if (target instanceof HasCdp) {
+            ((HasCdp) target).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        }
+    }
+
+    // A scenario that never took a driver must not pass its fresh-session or route request on
+    // to the next scenario that runs on this pooled thread
+    private static void clearRequests() {
+        freshSession.remove();
+        route.remove();
+    }
+
+    private static synchronized DriverPool poolFor(BrowserType browser) {
+        ConfigSnapshot config = ConfigReader.snapshot();
+        int maxUses = config.driverSessionReuse() ? config.driverSessionMaxUses() : 0;
+        if (sessionLimit == null) {
+            sessionLimit = new SessionLimit(config.driverPoolMaxSessions());
+        }
+        return pools.computeIfAbsent(browser, b -> new DriverPool(() -> newSession(b),
+                sessionLimit, config.driverPoolAcquireTimeout(), maxUses));
+    }
+
+    private static final class Lease {
+        private final DriverPool pool;
+        private final WebDriver driver;
+
+        private Lease(DriverPool pool, WebDriver driver) {
+            this.pool = pool;
+            this.driver = driver;
         }
     }
 }
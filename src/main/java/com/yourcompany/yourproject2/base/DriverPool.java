@@ -0,0 +1,183 @@
+package com.yourcompany.yourproject.base;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
+
+// Sessions count against maxSessions from the moment they start until they quit, whether leased or
+// idle, so neither warm-up nor fresh-session requests can push the pool past its ceiling. Pools
+// built on one SessionLimit share that ceiling, and a full limit makes room by quitting an idle
+// session from whichever pool has one.
+public class DriverPool {
+    private final Supplier<WebDriver> factory;
+    private final SessionLimit limit;
+    private final Duration acquireTimeout;
+    private final int maxUses;
+    private final ConcurrentLinkedDeque<WebDriver> idle = new ConcurrentLinkedDeque<>();
+    private final Map<WebDriver, Integer> uses = new ConcurrentHashMap<>();
+    private final Map<WebDriver, Long> warmed = new ConcurrentHashMap<>();
+
+    public DriverPool(Supplier<WebDriver> factory, int maxSessions, Duration acquireTimeout) {
+        this(factory, maxSessions, acquireTimeout, 0);
+    }
+
+    public DriverPool(Supplier<WebDriver> factory, int maxSessions, Duration acquireTimeout, int maxUses) {
+        this(factory, new SessionLimit(maxSessions), acquireTimeout, maxUses);
+    }
+
+    DriverPool(Supplier<WebDriver> factory, SessionLimit limit, Duration acquireTimeout, int maxUses) {
+        this.factory = factory;
+        this.limit = limit;
+        this.acquireTimeout = acquireTimeout;
+        this.maxUses = maxUses;
+        limit.register(this::retireIdle);
+    }
+
+    public WebDriver checkout() {
+        return checkout(false);
+    }
+
+    public WebDriver checkout(boolean fresh) {
+        long deadline = System.nanoTime() + acquireTimeout.toNanos();
+        while (true) {
+            long seen = limit.version();
+            if (!fresh) {
+                WebDriver driver = takeIdle();
+                if (driver != null) {
+                    return driver;
+                }
+            }
+            if (limit.tryReserve()) {
+                return create();
+            }
+            // Replace an idle session (here for a fresh request, otherwise in another pool)
+            // rather than wait for a slot
+            if (limit.evictIdle()) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("No browser session available within " + acquireTimeout);
+            }
+            try {
+                limit.awaitChange(seen, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+            }
+        }
+    }
+
+    // Starts an idle session only while the pool is below its ceiling; the session keeps its slot
+    public boolean prewarm() {
+        if (!limit.tryReserve()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = factory.get();
+        } catch (RuntimeException e) {
+            limit.free();
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        DriverStartupMetrics.recordWarmStart(elapsed);
+        warmed.put(driver, elapsed);
+        idle.offerLast(driver);
+        limit.signal();
+        return true;
+    }
+
+    public void release(WebDriver driver) {
+        int used = uses.merge(driver, 1, Integer::sum);
+        if ((maxUses < 1 || used < maxUses) && isHealthy(driver)) {
+            idle.offerFirst(driver);
+            limit.signal();
+        } else {
+            discard(driver);
+        }
+    }
+
+    public void invalidate(WebDriver driver) {
+        discard(driver);
+    }
+
+    public void shutdown() {
+        WebDriver driver;
+        while ((driver = idle.pollFirst()) != null) {
+            discard(driver);
+        }
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public int availableSessions() {
+        return limit.available();
+    }
+
+    public static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // Caller holds a reserved slot, which is handed back if the browser fails to start
+    private WebDriver create() {
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = factory.get();
+        } catch (RuntimeException e) {
+            limit.free();
+            throw e;
+        }
+        DriverStartupMetrics.recordColdStart(System.nanoTime() - start);
+        return driver;
+    }
+
+    private WebDriver takeIdle() {
+        WebDriver driver;
+        while ((driver = idle.pollFirst()) != null) {
+            if (isHealthy(driver)) {
+                Long startup = warmed.remove(driver);
+                if (startup != null) {
+                    DriverStartupMetrics.recordWarmHit(startup);
+                }
+                return driver;
+            }
+            discard(driver);
+        }
+        return null;
+    }
+
+    private boolean retireIdle() {
+        WebDriver driver = idle.pollLast();
+        if (driver == null) {
+            return false;
+        }
+        discard(driver);
+        return true;
+    }
+
+    private void discard(WebDriver driver) {
+        uses.remove(driver);
+        warmed.remove(driver);
+        try {
+            driver.quit();
+        } catch (RuntimeException ignored) {
+            // Session is already gone
+        } finally {
+            limit.free();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.yourcompany.yourproject.base;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DriverStartupMetrics {
+    private static final LongAdder coldStarts = new LongAdder();
+    private static final LongAdder coldStartNanos = new LongAdder();
+    private static final LongAdder warmStarts = new LongAdder();
+    private static final LongAdder warmStartNanos = new LongAdder();
+    private static final LongAdder warmHits = new LongAdder();
+    private static final LongAdder hiddenNanos = new LongAdder();
+
+    static void recordColdStart(long nanos) {
+        coldStarts.increment();
+        coldStartNanos.add(nanos);
+    }
+
+    static void recordWarmStart(long nanos) {
+        warmStarts.increment();
+        warmStartNanos.add(nanos);
+    }
+
+    static void recordWarmHit(long nanos) {
+        warmHits.increment();
+        hiddenNanos.add(nanos);
+    }
+
+    public static long coldStarts() {
+        return coldStarts.sum();
+    }
+
+    public static long warmStarts() {
+        return warmStarts.sum();
+    }
+
+    public static long warmHits() {
+        return warmHits.sum();
+    }
+
+    public static long hiddenMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(hiddenNanos.sum());
+    }
+
+    public static String summary() {
+        return String.format("Driver startup: %d cold (avg %d ms on critical path), "
+                        + "%d pre-warmed (avg %d ms in background), %d used, %d ms hidden",
+                coldStarts(), average(coldStartNanos, coldStarts),
+                warmStarts(), average(warmStartNanos, warmStarts),
+                warmHits(), hiddenMillis());
+    }
+
+    private static long average(LongAdder nanos, LongAdder count) {
+        long n = count.sum();
+        return n == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(nanos.sum() / n);
+    }
+}
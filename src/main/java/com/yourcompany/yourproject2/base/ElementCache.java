@@ -0,0 +1,129 @@
+package com.yourcompany.yourproject.base;
+
+import com.yourcompany.yourproject.utils.ScriptSupport;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Per-page cache of resolved elements. Entries stay valid until the page's DOM generation changes.
+// The generation is re-read only after a call that can mutate the DOM (a mutating call through the
+// cache, markDirty, a new page), so reads between actions cost no extra round trip. A change made by
+// the application itself (timers, XHR rendering) is not polled for: a replaced node surfaces as a
+// stale element, which is re-resolved and the call retried once. Off by default
+// (page.element.cache) until a benchmark shows it paying for its revalidation script.
+public class ElementCache {
+    private static final Class<?>[] ELEMENT_INTERFACES = {WebElement.class, WrapsElement.class, Locatable.class};
+    private static final Set<String> MUTATING_CALLS = Set.of("click", "submit", "sendKeys", "clear");
+
+    // Installs a MutationObserver once per document; a new document gets a new random id
+    private static final String GENERATION_SCRIPT =
+            "var g = window.__domGeneration;"
+            + "if (!g) {"
+            + "  g = window.__domGeneration = {id: Math.random().toString(36).slice(2), n: 0};"
+            + "  new MutationObserver(function () { g.n++; })"
+            + "      .observe(document, {childList: true, subtree: true});"
+            + "}"
+            + "return g.id + ':' + g.n;";
+
+    private final WebDriver driver;
+    private final Map<By, CachedElement> elements = new HashMap<>();
+    private String generation;
+    private boolean dirty = true;
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebElement get(By locator) {
+        if (dirty) {
+            validate();
+        }
+        CachedElement cached = elements.get(locator);
+        if (cached == null) {
+            cached = new CachedElement(locator);
+            cached.proxy = (WebElement) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), ELEMENT_INTERFACES, cached::invoke);
+            elements.put(locator, cached);
+        }
+        return cached.proxy;
+    }
+
+    // Call after scripts or other calls outside the cache that may have changed the DOM
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public void invalidate() {
+        elements.clear();
+        generation = null;
+        dirty = true;
+    }
+
+    private void validate() {
+        dirty = false;
+        if (!ScriptSupport.isAvailable(driver)) {
+            elements.clear();
+            return;
+        }
+        String current = String.valueOf(((JavascriptExecutor) driver).executeScript(GENERATION_SCRIPT));
+        if (!current.equals(generation)) {
+            elements.clear();
+            generation = current;
+        }
+    }
+
+    private final class CachedElement {
+        private final By locator;
+        private WebElement proxy;
+        private WebElement resolved;
+
+        private CachedElement(By locator) {
+            this.locator = locator;
+        }
+
+        private Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            if ("getWrappedElement".equals(method.getName())) {
+                return resolve();
+            }
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Cached element located by " + locator;
+            }
+            try {
+                return call(method, args);
+            } catch (StaleElementReferenceException e) {
+                resolved = null;
+                return call(method, args);
+            } finally {
+                if (MUTATING_CALLS.contains(method.getName())) {
+                    dirty = true;
+                }
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(resolve(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private WebElement resolve() {
+            if (resolved == null) {
+                resolved = driver.findElement(locator);
+            }
+            return resolved;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.yourcompany.yourproject.base;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.ConfigSnapshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Chromium-only request interception over DevTools, configured with:
+//   network.block.patterns=*google-analytics.com*,*.woff2
+//   network.stub.patterns=*/api/config->src/test/resources/stubs/config.json
+//   network.cache.patterns=*.js,*.css,*.png
+// Patterns are globs over the full URL. Cached responses are shared by every session in the JVM,
+// least recently used first out once they pass network.cache.max.mb in total. Responses marked
+// Cache-Control no-store or private are never cached, and Set-Cookie is never replayed.
+public class NetworkInterception {
+    private static final int MAX_CACHED_BYTES = 5 * 1024 * 1024;
+    private static final Set<String> UNCACHED_HEADERS = Set.of("set-cookie", "set-cookie2");
+    private static final Pattern UNCACHEABLE = Pattern.compile("(?i).*\\b(?:no-store|private)\\b.*");
+    // Access ordered, so iteration starts at the least recently used entry; guarded by itself
+    private static final Map<String, CachedResponse> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static long cachedBytes;
+    private static volatile Rules rules = Rules.from(ConfigReader.snapshot());
+
+    static {
+        ConfigReader.onReload(snapshot -> rules = Rules.from(snapshot));
+    }
+
+    public static WebDriver apply(WebDriver driver) {
+        if (rules.enabled() && driver instanceof HasDevTools) {
+            // Closed together with the DevTools connection when the session quits
+            new NetworkInterceptor(driver, filter());
+        }
+        return driver;
+    }
+
+    public static void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+            cachedBytes = 0;
+        }
+    }
+
+    static Filter filter() {
+        return next -> request -> {
+            Rules current = rules;
+            String url = request.getUri();
+            if (current.block != null && current.block.matcher(url).matches()) {
+                return new HttpResponse().setStatus(204);
+            }
+            for (Map.Entry<Pattern, Path> stub : current.stubs.entrySet()) {
+                if (stub.getKey().matcher(url).matches()) {
+                    return stubResponse(stub.getValue());
+                }
+            }
+            if (current.cache == null || request.getMethod() != HttpMethod.GET
+                    || !current.cache.matcher(url).matches()) {
+                return next.execute(request);
+            }
+            CachedResponse cached;
+            synchronized (cache) {
+                cached = cache.get(url);
+            }
+            if (cached != null) {
+                return cached.toResponse();
+            }
+            return store(url, next.execute(request), current.maxCacheBytes);
+        };
+    }
+
+    private static HttpResponse store(String url, HttpResponse response, long maxCacheBytes) {
+        if (response.getStatus() != 200 || !cacheable(response)) {
+            return response;
+        }
+        byte[] body = Contents.bytes(response.getContent());
+        response.setContent(Contents.bytes(body));
+        if (body.length > MAX_CACHED_BYTES || body.length > maxCacheBytes) {
+            return response;
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.forEachHeader((name, value) -> {
+            if (!UNCACHED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.computeIfAbsent(name, n -> new ArrayList<>()).add(value);
+            }
+        });
+        synchronized (cache) {
+            if (cache.putIfAbsent(url, new CachedResponse(headers, body)) == null) {
+                cachedBytes += body.length;
+                Iterator<CachedResponse> eldest = cache.values().iterator();
+                while (cachedBytes > maxCacheBytes) {
+                    cachedBytes -= eldest.next().body.length;
+                    eldest.remove();
+                }
+            }
+        }
+        return response;
+    }
+
+    private static boolean cacheable(HttpResponse response) {
+        for (String value : response.getHeaders("Cache-Control")) {
+            if (UNCACHEABLE.matcher(value).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static HttpResponse stubResponse(Path file) {
+        try {
+            HttpResponse response = new HttpResponse().setStatus(200).setContent(Contents.bytes(Files.readAllBytes(file)));
+            String type = Files.probeContentType(file);
+            if (type != null) {
+                response.setHeader("Content-Type", type);
+            }
+            return response;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read network stub " + file, e);
+        }
+    }
+
+    static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.trim().split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static Pattern anyOf(String globs) {
+        if (globs == null || globs.isBlank()) {
+            return null;
+        }
+        StringBuilder regex = new StringBuilder();
+        for (String glob : globs.split(",")) {
+            if (!glob.isBlank()) {
+                regex.append(regex.length() == 0 ? "" : "|").append("(?:").append(glob(glob).pattern()).append(')');
+            }
+        }
+        return regex.length() == 0 ? null : Pattern.compile(regex.toString());
+    }
+
+    private static final class Rules {
+        private final Pattern block;
+        private final Map<Pattern, Path> stubs;
+        private final Pattern cache;
+        private final long maxCacheBytes;
+
+        private Rules(Pattern block, Map<Pattern, Path> stubs, Pattern cache, long maxCacheBytes) {
+            this.block = block;
+            this.stubs = stubs;
+            this.cache = cache;
+            this.maxCacheBytes = maxCacheBytes;
+        }
+
+        static Rules from(ConfigSnapshot config) {
+            Map<Pattern, Path> stubs = new LinkedHashMap<>();
+            String stubPatterns = config.get("network.stub.patterns");
+            if (stubPatterns != null) {
+                for (String entry : stubPatterns.split(",")) {
+                    int arrow = entry.indexOf("->");
+                    if (arrow > 0) {
+                        stubs.put(glob(entry.substring(0, arrow)), Paths.get(entry.substring(arrow + 2).trim()));
+                    }
+                }
+            }
+            return new Rules(anyOf(config.get("network.block.patterns")), stubs, anyOf(config.get("network.cache.patterns")),
+                    config.getInt("network.cache.max.mb", 64) * 1024L * 1024L);
+        }
+
+        boolean enabled() {
+            return block != null || !stubs.isEmpty() || cache != null;
+        }
+    }
+
+    private static final class CachedResponse {
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        private CachedResponse(Map<String, List<String>> headers, byte[] body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse().setStatus(200).setContent(Contents.bytes(body));
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            return response;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.yourcompany.yourproject.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PageElements {
+    private static final Class<?>[] ELEMENT_INTERFACES = {WebElement.class, WrapsElement.class, Locatable.class};
+    private static final Class<?>[] LIST_INTERFACES = {List.class};
+
+    private static final ClassValue<List<ElementField>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<ElementField> computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private PageElements() {
+    }
+
+    // Same result as PageFactory.initElements, but each page class is reflected over only once.
+    // Every field still gets its own proxy per construction, since a plain field cannot be bound
+    // later; the locator and PageFactory handler behind it are built when the field is first used.
+    public static void initElements(SearchContext context, Object page) {
+        for (ElementField elementField : FIELDS.get(page.getClass())) {
+            try {
+                Object proxy = elementField.proxyConstructor.newInstance(new LazyHandler(context, elementField));
+                elementField.field.set(page, proxy);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot initialise " + elementField.field, e);
+            }
+        }
+    }
+
+    private static List<ElementField> scan(Class<?> type) {
+        List<ElementField> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                boolean element = field.getType() == WebElement.class;
+                boolean list = isElementList(field);
+                if (element || list) {
+                    field.setAccessible(true);
+                    fields.add(new ElementField(field, list, new CachedAnnotations(new Annotations(field)),
+                            proxyConstructor(type.getClassLoader(), list ? LIST_INTERFACES : ELEMENT_INTERFACES)));
+                }
+            }
+        }
+        return List.copyOf(fields);
+    }
+
+    // Proxy.newProxyInstance looks the proxy class up on every call; its constructor is kept instead
+    private static Constructor<?> proxyConstructor(ClassLoader loader, Class<?>[] interfaces) {
+        try {
+            return Proxy.newProxyInstance(loader, interfaces, (proxy, method, args) -> null)
+                    .getClass().getConstructor(InvocationHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Proxy class without an InvocationHandler constructor", e);
+        }
+    }
+
+    // Mirrors DefaultFieldDecorator: only annotated List<WebElement> fields are decorated
+    private static boolean isElementList(Field field) {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType listType = (ParameterizedType) field.getGenericType();
+        return listType.getActualTypeArguments()[0] == WebElement.class
+                && (field.isAnnotationPresent(FindBy.class)
+                || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class));
+    }
+
+    private static final class ElementField {
+        private final Field field;
+        private final boolean list;
+        private final AbstractAnnotations annotations;
+        private final Constructor<?> proxyConstructor;
+
+        private ElementField(Field field, boolean list, AbstractAnnotations annotations, Constructor<?> proxyConstructor) {
+            this.field = field;
+            this.list = list;
+            this.annotations = annotations;
+            this.proxyConstructor = proxyConstructor;
+        }
+    }
+
+    private static final class LazyHandler implements InvocationHandler {
+        private final SearchContext context;
+        private final ElementField field;
+        private InvocationHandler target;
+
+        private LazyHandler(SearchContext context, ElementField field) {
+            this.context = context;
+            this.field = field;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (target == null) {
+                ElementLocator locator = new DefaultElementLocator(context, field.annotations);
+                target = field.list ? new LocatingElementListHandler(locator) : new LocatingElementHandler(locator);
+            }
+            return target.invoke(proxy, method, args);
+        }
+    }
+
+    private static final class CachedAnnotations extends AbstractAnnotations {
+        private final By by;
+        private final boolean lookupCached;
+
+        private CachedAnnotations(Annotations annotations) {
+            this.by = annotations.buildBy();
+            this.lookupCached = annotations.isLookupCached();
+        }
+
+        @Override
+        public By buildBy() {
+            return by;
+        }
+
+        @Override
+        public boolean isLookupCached() {
+            return lookupCached;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.yourcompany.yourproject.base;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+// Counts live browser sessions, leased or idle, against one ceiling that may be shared by several
+// pools. Waiters are woken whenever a slot frees up or a session goes back to idle, and compare
+// versions so no wake-up is lost.
+final class SessionLimit {
+    private final List<BooleanSupplier> idleEvictors = new CopyOnWriteArrayList<>();
+    private final int maxSessions;
+    private int live;
+    private long version;
+
+    SessionLimit(int maxSessions) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be at least 1: " + maxSessions);
+        }
+        this.maxSessions = maxSessions;
+    }
+
+    synchronized boolean tryReserve() {
+        if (live >= maxSessions) {
+            return false;
+        }
+        live++;
+        return true;
+    }
+
+    // Each pool registers a way to quit one of its idle sessions
+    void register(BooleanSupplier evictIdle) {
+        idleEvictors.add(evictIdle);
+    }
+
+    // Quits an idle session from any pool so a full limit can make room; false when none is idle
+    boolean evictIdle() {
+        for (BooleanSupplier evictor : idleEvictors) {
+            if (evictor.getAsBoolean()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void free() {
+        live--;
+        signal();
+    }
+
+    synchronized void signal() {
+        version++;
+        notifyAll();
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    // Returns once anything changed since seen, or after at most nanos
+    synchronized void awaitChange(long seen, long nanos) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (version == seen && remaining > 0) {
+            wait(Math.max(1, remaining / 1_000_000));
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    synchronized int available() {
+        return maxSessions - live;
+    }
+}
@@ -1,15 +1,32 @@
 package com.yourcompany.yourproject.components;
 
 import com.yourcompany.yourproject.base.BaseComponent;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.List;
+
 public class HeaderComponent extends BaseComponent {
+    private static final By ROOT = By.cssSelector("#logo");
+
     public HeaderComponent(WebDriver driver) {
         super(driver);
     }
 
+    // For pages that batch verification; see BaseComponent
+    public HeaderComponent(WebDriver driver, boolean verifyNow) {
+        super(driver, verifyNow);
+    }
+
     @Override
     protected void isLoaded() {
-        // Add logic to verify header is loaded
+        if (!driver.findElement(ROOT).isDisplayed()) {
+            throw new IllegalStateException("HeaderComponent not loaded properly");
+        }
+    }
+
+    @Override
+    protected List<By> loadIndicators() {
+        return List.of(ROOT);
     }
 }
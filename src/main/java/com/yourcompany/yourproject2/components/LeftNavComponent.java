@@ -1,15 +1,32 @@
 package com.yourcompany.yourproject.components;
 
 import com.yourcompany.yourproject.base.BaseComponent;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.List;
+
 public class LeftNavComponent extends BaseComponent {
+    private static final By ROOT = By.cssSelector("nav.sidebar");
+
     public LeftNavComponent(WebDriver driver) {
         super(driver);
     }
 
+    // For pages that batch verification; see BaseComponent
+    public LeftNavComponent(WebDriver driver, boolean verifyNow) {
+        super(driver, verifyNow);
+    }
+
     @Override
     protected void isLoaded() {
-        // Add logic to verify left nav is loaded
+        if (!driver.findElement(ROOT).isDisplayed()) {
+            throw new IllegalStateException("LeftNavComponent not loaded properly");
+        }
+    }
+
+    @Override
+    protected List<By> loadIndicators() {
+        return List.of(ROOT);
     }
 }
@@ -1,6 +1,22 @@
 package com.yourcompany.yourproject.enums;
 
 public enum BrowserType {
-    CHROME,
-    FIREFOX
+    CHROME(4),
+    FIREFOX(4),
+    CHROME_HEADLESS(3),
+    FIREFOX_HEADLESS(3),
+    // Headless Chrome without GPU, images or extensions in a small window
+    CHROME_LITE(2),
+    // In-process HtmlUnit with JavaScript disabled; needs htmlunit3-driver on the classpath
+    HTMLUNIT(1);
+
+    private final int cost;
+
+    BrowserType(int cost) {
+        this.cost = cost;
+    }
+
+    public int cost() {
+        return cost;
+    }
 }
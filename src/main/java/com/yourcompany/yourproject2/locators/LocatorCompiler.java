@@ -0,0 +1,88 @@
+package com.yourcompany.yourproject.locators;
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+// Build step, run by Maven at process-classes: compiles every locators/*.yaml file into a
+// <page>.loc binary next to the main classes, so the artifact carries its own locators.
+//   java LocatorCompiler src/main/resources/locators target/classes/locators
+// YAML layout: component -> key -> {type: css|id|name|xpath|className|tagName|linkText|partialLinkText, value: ...}
+public class LocatorCompiler {
+    private static final Logger LOG = Logger.getLogger(LocatorCompiler.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : "src/main/resources/locators");
+        Path target = Paths.get(args.length > 1 ? args[1] : "target/classes/locators");
+        Files.createDirectories(target);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(source)) {
+            files = stream.filter(f -> f.toString().endsWith(".yaml") || f.toString().endsWith(".yml")).sorted().toList();
+        }
+        for (Path file : files) {
+            String page = file.getFileName().toString().replaceFirst("\\.ya?ml$", "");
+            compile(file, target.resolve(page + ".loc"));
+        }
+        LOG.info("Compiled " + files.size() + " locator files into " + target);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void compile(Path yamlFile, Path output) throws IOException {
+        Map<String, Object> components;
+        try (InputStream in = Files.newInputStream(yamlFile)) {
+            components = new Yaml().load(in);
+        }
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        List<int[]> entries = new ArrayList<>();
+        if (components != null) {
+            for (Map.Entry<String, Object> component : components.entrySet()) {
+                if (!(component.getValue() instanceof Map)) {
+                    throw new IllegalArgumentException("Invalid locator format for: " + component.getKey() + " in " + yamlFile);
+                }
+                for (Map.Entry<String, Object> locator : ((Map<String, Object>) component.getValue()).entrySet()) {
+                    if (!(locator.getValue() instanceof Map)) {
+                        throw new IllegalArgumentException("Invalid locator format for: " + component.getKey() + "."
+                                + locator.getKey() + " in " + yamlFile);
+                    }
+                    Map<String, Object> spec = (Map<String, Object>) locator.getValue();
+                    String type = String.valueOf(spec.get("type"));
+                    LocatorRepository.toBy(type, String.valueOf(spec.get("value")));
+                    entries.add(new int[]{
+                            intern(strings, component.getKey() + "." + locator.getKey()),
+                            intern(strings, type),
+                            intern(strings, String.valueOf(spec.get("value")))});
+                }
+            }
+        }
+        // Layout: magic, string table, then (key, type, value) string indexes per entry
+        try (OutputStream file = Files.newOutputStream(output); DataOutputStream out = new DataOutputStream(file)) {
+            out.writeInt(LocatorRepository.MAGIC);
+            out.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                out.writeUTF(value);
+            }
+            out.writeInt(entries.size());
+            for (int[] entry : entries) {
+                out.writeInt(entry[0]);
+                out.writeInt(entry[1]);
+                out.writeInt(entry[2]);
+            }
+        }
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        return strings.computeIfAbsent(value, v -> strings.size());
+    }
+}
@@ -0,0 +1,142 @@
+package com.yourcompany.yourproject.locators;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+import org.openqa.selenium.By;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Reads the binaries produced by LocatorCompiler from the classpath, one page at a time on first use.
+// Resolve a handle once, e.g. in a static field, then by(handle) is two array reads:
+//   private static final int USERNAME = LocatorRepository.handle("login", "LoginForm.username");
+public class LocatorRepository {
+    static final int MAGIC = 0x4C4F4331;
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int INDEX_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private static final Map<String, Integer> pageIds = new ConcurrentHashMap<>();
+    private static final List<Page> pages = new CopyOnWriteArrayList<>();
+
+    public static int handle(String page, String key) {
+        Page loaded = page(page);
+        Integer index = loaded.indexes.get(key);
+        if (index == null) {
+            throw new IllegalArgumentException("No locator found for key: " + key + " in page/component: " + page);
+        }
+        return loaded.id << PAGE_SHIFT | index;
+    }
+
+    public static By by(int handle) {
+        return pages.get(handle >>> PAGE_SHIFT).bys[handle & INDEX_MASK];
+    }
+
+    public static By by(String page, String key) {
+        return by(handle(page, key));
+    }
+
+    private static Page page(String name) {
+        Integer id = pageIds.get(name);
+        if (id != null) {
+            return pages.get(id);
+        }
+        synchronized (LocatorRepository.class) {
+            id = pageIds.get(name);
+            if (id != null) {
+                return pages.get(id);
+            }
+            Map<String, By> locators = read(name);
+            if (locators == null) {
+                throw new IllegalArgumentException("No locators found for page/component: " + name
+                        + " (is locators/" + name + ".loc compiled onto the classpath?)");
+            }
+            String env = ConfigReader.get("env");
+            Map<String, By> overrides = env == null || env.isBlank() ? null : read(name + "-" + env.trim());
+            if (overrides != null) {
+                // Environment files only override the keys they define
+                locators.putAll(overrides);
+            }
+            Page page = new Page(pages.size(), locators);
+            if (page.id > (Integer.MAX_VALUE >>> PAGE_SHIFT) || locators.size() > INDEX_MASK) {
+                throw new IllegalStateException("Too many locator pages or entries in " + name);
+            }
+            pages.add(page);
+            pageIds.put(name, page.id);
+            return page;
+        }
+    }
+
+    private static Map<String, By> read(String name) {
+        InputStream resource = LocatorRepository.class.getResourceAsStream("/locators/" + name + ".loc");
+        if (resource == null) {
+            return null;
+        }
+        Map<String, By> locators = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(resource)) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a compiled locator file: " + name + ".loc");
+            }
+            String[] strings = new String[in.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF().intern();
+            }
+            int entries = in.readInt();
+            for (int i = 0; i < entries; i++) {
+                String key = strings[in.readInt()];
+                String type = strings[in.readInt()];
+                String value = strings[in.readInt()];
+                locators.put(key, toBy(type, value));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read locator file: " + name + ".loc", e);
+        }
+        return locators;
+    }
+
+    static By toBy(String type, String value) {
+        switch (type) {
+            case "id":
+                return By.id(value);
+            case "name":
+                return By.name(value);
+            case "css":
+                return By.cssSelector(value);
+            case "xpath":
+                return By.xpath(value);
+            case "className":
+                return By.className(value);
+            case "tagName":
+                return By.tagName(value);
+            case "linkText":
+                return By.linkText(value);
+            case "partialLinkText":
+                return By.partialLinkText(value);
+            default:
+                throw new IllegalArgumentException("Unknown locator type: " + type);
+        }
+    }
+
+    private static final class Page {
+        private final int id;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final By[] bys;
+
+        private Page(int id, Map<String, By> locators) {
+            this.id = id;
+            List<By> resolved = new ArrayList<>(locators.size());
+            for (Map.Entry<String, By> entry : locators.entrySet()) {
+                indexes.put(entry.getKey(), resolved.size());
+                resolved.add(entry.getValue());
+            }
+            this.bys = resolved.toArray(new By[0]);
+        }
+    }
+}
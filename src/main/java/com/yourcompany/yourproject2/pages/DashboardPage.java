@@ -1,10 +1,40 @@
 package com.yourcompany.yourproject.pages;
 
 import com.yourcompany.yourproject.base.BasePage;
+import com.yourcompany.yourproject.base.ComponentTreeVerifier;
+import com.yourcompany.yourproject.components.FooterComponent;
+import com.yourcompany.yourproject.components.HeaderComponent;
+import com.yourcompany.yourproject.components.LeftNavComponent;
 import org.openqa.selenium.WebDriver;
 
 public class DashboardPage extends BasePage {
+    private final HeaderComponent header;
+    private final LeftNavComponent leftNav;
+    private final FooterComponent footer;
+
     public DashboardPage(WebDriver driver) {
         super(driver);
+        // Not verified one by one: waitUntilReady checks all three in one batch
+        header = new HeaderComponent(driver, false);
+        leftNav = new LeftNavComponent(driver, false);
+        footer = new FooterComponent(driver, false);
+    }
+
+    @Override
+    public void waitUntilReady() {
+        super.waitUntilReady();
+        ComponentTreeVerifier.verify(driver, header, leftNav, footer);
+    }
+
+    public HeaderComponent header() {
+        return header;
+    }
+
+    public LeftNavComponent leftNav() {
+        return leftNav;
+    }
+
+    public FooterComponent footer() {
+        return footer;
     }
 }
@@ -1,21 +1,43 @@
 package com.yourcompany.yourproject.pages;
 
 import com.yourcompany.yourproject.base.BasePage;
+import com.yourcompany.yourproject.locators.LocatorRepository;
 import org.openqa.selenium.By;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class LoginPage extends BasePage {
-    private By usernameField = By.id("username");
-    private By passwordField = By.id("password");
-    private By loginButton = By.id("login");
+    private static final int USERNAME = LocatorRepository.handle("login", "LoginForm.username");
+    private static final int PASSWORD = LocatorRepository.handle("login", "LoginForm.password");
+    private static final int SUBMIT = LocatorRepository.handle("login", "LoginForm.submit");
+
+    private final By usernameField = LocatorRepository.by(USERNAME);
+    private final By passwordField = LocatorRepository.by(PASSWORD);
+    private final By loginButton = LocatorRepository.by(SUBMIT);
 
     public LoginPage(WebDriver driver) {
         super(driver);
     }
 
+    @Override
+    protected PageLoadStrategy loadStrategy() {
+        return PageLoadStrategy.EAGER;
+    }
+
+    @Override
+    protected List<By> keyElements() {
+        return List.of(usernameField, passwordField, loginButton);
+    }
+
     public void login(String username, String password) {
-        driver.findElement(usernameField).sendKeys(username);
-        driver.findElement(passwordField).sendKeys(password);
-        driver.findElement(loginButton).click();
+        Map<By, String> credentials = new LinkedHashMap<>();
+        credentials.put(usernameField, username);
+        credentials.put(passwordField, password);
+        fillForm(credentials);
+        element(loginButton).click();
     }
 }
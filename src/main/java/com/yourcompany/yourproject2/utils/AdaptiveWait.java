@@ -0,0 +1,59 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+public class AdaptiveWait {
+    private final WebDriver driver;
+
+    AdaptiveWait(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout) {
+        return until(condition, timeout, ConfigReader.snapshot().pollingPolicy());
+    }
+
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout, PollingPolicy polling) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Duration interval = polling.initial();
+        RuntimeException lastError = null;
+        int polls = 0;
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    WaitStatistics.record(condition.toString(), System.nanoTime() - start, polls, true);
+                    return value;
+                }
+                lastError = null;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                WaitStatistics.record(condition.toString(), System.nanoTime() - start, polls, false);
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s (tried for %d ms, %d polls)",
+                        condition, timeout.toMillis(), polls), lastError);
+            }
+            sleep(Math.min(interval.toNanos(), remaining));
+            interval = polling.next(interval);
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
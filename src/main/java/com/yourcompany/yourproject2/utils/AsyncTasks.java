@@ -0,0 +1,102 @@
+package com.yourcompany.yourproject.utils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Shared executor for blocking side work (screenshot encoding, evidence writes, log flushing)
+// that must not hold up the scenario thread. The build targets Java 17, where this is a cached
+// pool of daemon platform threads; only a Java 21+ runtime with async.virtual.threads on gets
+// virtual threads. Scenarios themselves still run one per TestNG thread (parallel.threads).
+public class AsyncTasks {
+    private static final ExecutorService executor = createExecutor();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final Object idle = new Object();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> drain(
+                ConfigReader.snapshot().asyncDrainTimeout())));
+    }
+
+    public static CompletableFuture<Void> run(Runnable task) {
+        return supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        inFlight.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(task, executor).whenComplete((result, error) -> finished());
+        } catch (RuntimeException e) {
+            finished();
+            throw e;
+        }
+    }
+
+    // Counts a stage chain built on executor() so drain() also waits for it
+    public static <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        inFlight.incrementAndGet();
+        return future.whenComplete((result, error) -> finished());
+    }
+
+    public static ExecutorService executor() {
+        return executor;
+    }
+
+    public static int inFlight() {
+        return inFlight.get();
+    }
+
+    // Waits until every submitted task has completed; returns false on timeout
+    public static boolean drain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (idle) {
+            while (inFlight.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void finished() {
+        if (inFlight.decrementAndGet() == 0) {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        if (ConfigReader.snapshot().asyncVirtualThreads()) {
+            try {
+                // Looked up reflectively so the framework still runs on Java 17
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Pre-21 runtime, fall through to platform threads
+            }
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "async-task-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CommandTimingListener implements WebDriverListener {
+    private static final Map<Method, String> commandNames = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public static WebDriver instrument(WebDriver driver) {
+        return new EventFiringDecorator<>(new CommandTimingListener()).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        Long start = starts.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        Instrumentation.record(Instrumentation.COMMAND, commandNames.computeIfAbsent(method,
+                m -> m.getDeclaringClass().getSimpleName() + "." + m.getName()), elapsed);
+        String page = Instrumentation.currentPage();
+        if (page != null) {
+            Instrumentation.record(Instrumentation.PAGE, page, elapsed);
+        }
+    }
+}
@@ -1,22 +1,170 @@
 package com.yourcompany.yourproject.utils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+// Layers, lowest precedence first: config.properties, config-<env>.properties,
+// system properties, then environment variables (DRIVER_HEADLESS overrides driver.headless).
+// An environment variable only overrides a key that a file or system property already defines,
+// so unrelated variables such as PATH never turn into config. To make a key that only has a
+// code default overridable from the environment, list it empty in config.properties ("key=").
 public class ConfigReader {
-    private static Properties properties = new Properties();
+    private static final Logger LOG = Logger.getLogger(ConfigReader.class.getName());
+    private static final Path BASE_FILE = Paths.get(System.getProperty("config.file", "src/test/resources/config.properties"));
+    private static final List<Consumer<ConfigSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    private static volatile ConfigSnapshot snapshot = load();
+    private static Thread watcher;
 
     static {
+        if (snapshot.getBoolean("config.watch", false)) {
+            watch();
+        }
+    }
+
+    public static ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public static String get(String key) {
+        return snapshot.get(key);
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return snapshot.getInt(key, defaultValue);
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        return snapshot.getDouble(key, defaultValue);
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return snapshot.getBoolean(key, defaultValue);
+    }
+
+    public static void onReload(Consumer<ConfigSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    public static ConfigSnapshot reload() {
+        ConfigSnapshot reloaded = load();
+        snapshot = reloaded;
+        listeners.forEach(listener -> listener.accept(reloaded));
+        return reloaded;
+    }
+
+    public static synchronized void watch() {
+        if (watcher != null) {
+            return;
+        }
+        Path directory = BASE_FILE.toAbsolutePath().getParent();
+        WatchService service;
         try {
-            FileInputStream fis = new FileInputStream("src/test/resources/config.properties");
-            properties.load(fis);
+            service = FileSystems.getDefault().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new UncheckedIOException("Cannot watch config directory " + directory, e);
         }
+        watcher = new Thread(() -> watchLoop(service), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
     }
 
-    public static String get(String key) {
-        return properties.getProperty(key);
+    private static void watchLoop(WatchService service) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                Object context = event.context();
+                if (context instanceof Path && isConfigFile(((Path) context).getFileName().toString())) {
+                    changed = true;
+                }
+            }
+            if (changed) {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    // A half-written file must not take the running suite down; keep the last good snapshot
+                    LOG.log(Level.WARNING, "Config reload failed, keeping previous values", e);
+                }
+            }
+            if (!key.reset()) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isConfigFile(String name) {
+        String env = environment(snapshot.values());
+        return name.equals(BASE_FILE.getFileName().toString())
+                || env != null && name.equals(envFile(env).getFileName().toString());
+    }
+
+    private static ConfigSnapshot load() {
+        Map<String, String> values = new HashMap<>();
+        readInto(BASE_FILE, values);
+        String env = environment(values);
+        if (env != null) {
+            readInto(envFile(env), values);
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            values.put(name, System.getProperty(name));
+        }
+        Map<String, String> environment = System.getenv();
+        for (String key : values.keySet().toArray(new String[0])) {
+            String value = environment.get(key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_'));
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return new ConfigSnapshot(values);
+    }
+
+    private static String environment(Map<String, String> base) {
+        String env = System.getProperty("env", System.getenv().getOrDefault("ENV", base.get("env")));
+        return env == null || env.isBlank() ? null : env.trim();
+    }
+
+    private static Path envFile(String env) {
+        String name = BASE_FILE.getFileName().toString().replace(".properties", "-" + env + ".properties");
+        return BASE_FILE.resolveSibling(name);
+    }
+
+    private static void readInto(Path file, Map<String, String> values) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read config file " + file, e);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            values.put(name, properties.getProperty(name));
+        }
     }
 }
@@ -0,0 +1,244 @@
+package com.yourcompany.yourproject.utils;
+
+import com.yourcompany.yourproject.enums.BrowserType;
+import org.openqa.selenium.PageLoadStrategy;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public final class ConfigSnapshot {
+    private final Map<String, String> values;
+
+    private final BrowserType browser;
+    private final String url;
+    private final int driverPoolMaxSessions;
+    private final Duration driverPoolAcquireTimeout;
+    private final boolean driverSessionReuse;
+    private final int driverSessionMaxUses;
+    private final boolean driverHeadless;
+    private final int driverWarmupSessions;
+    private final boolean parallelEnabled;
+    private final int parallelThreads;
+    private final String parallelDurationsFile;
+    private final boolean formFillNative;
+    private final PollingPolicy pollingPolicy;
+    private final boolean waitEventDriven;
+    private final Map<String, BrowserType> tagRoutes;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final Duration scriptTimeout;
+    private final Duration networkIdle;
+    private final Duration pageReadyTimeout;
+    private final boolean pageElementCache;
+    private final boolean instrumentationEnabled;
+    private final Duration componentLoadTimeout;
+    private final boolean asyncVirtualThreads;
+    private final Duration asyncDrainTimeout;
+    private final boolean driverStub;
+    private final Duration driverStubLatency;
+    private final boolean fixturesEnabled;
+    private final int fixturesPort;
+    private final String fixturesDir;
+
+    ConfigSnapshot(Map<String, String> values) {
+        this.values = Map.copyOf(values);
+        this.browser = BrowserType.valueOf(getString("browser", "chrome").toUpperCase(Locale.ROOT));
+        this.url = get("url");
+        this.driverPoolMaxSessions = getInt("driver.pool.max.sessions", Runtime.getRuntime().availableProcessors());
+        this.driverPoolAcquireTimeout = Duration.ofSeconds(getInt("driver.pool.acquire.timeout.seconds", 60));
+        this.driverSessionReuse = getBoolean("driver.session.reuse", false);
+        this.driverSessionMaxUses = getInt("driver.session.max.uses", 50);
+        this.driverHeadless = getBoolean("driver.headless", false);
+        this.driverWarmupSessions = getInt("driver.warmup.sessions", 0);
+        this.parallelEnabled = getBoolean("parallel.enabled", false);
+        this.parallelThreads = Math.max(1, getInt("parallel.threads", Runtime.getRuntime().availableProcessors()));
+        this.parallelDurationsFile = getString("parallel.durations.file", ".cache/scenario-durations.properties");
+        this.formFillNative = getBoolean("form.fill.native", false);
+        this.pollingPolicy = new PollingPolicy(
+                Duration.ofMillis(getInt("wait.poll.initial.ms", 10)),
+                Duration.ofMillis(getInt("wait.poll.max.ms", 250)),
+                getDouble("wait.poll.backoff", 2.0));
+        this.waitEventDriven = getBoolean("wait.event.driven", false);
+        this.tagRoutes = tagRoutes(values);
+        this.pageLoadStrategy = PageLoadStrategy.fromString(getString("driver.page.load.strategy", "eager"));
+        this.scriptTimeout = Duration.ofSeconds(getInt("driver.script.timeout.seconds", 30));
+        this.networkIdle = Duration.ofMillis(getInt("page.network.idle.ms", 500));
+        this.pageReadyTimeout = Duration.ofSeconds(getInt("page.ready.timeout.seconds", 30));
+        this.pageElementCache = getBoolean("page.element.cache", false);
+        this.instrumentationEnabled = getBoolean("instrumentation.enabled", false);
+        this.componentLoadTimeout = Duration.ofSeconds(getInt("component.load.timeout.seconds", 10));
+        this.asyncVirtualThreads = getBoolean("async.virtual.threads", true);
+        this.asyncDrainTimeout = Duration.ofSeconds(getInt("async.drain.timeout.seconds", 30));
+        this.driverStub = getBoolean("driver.stub", false);
+        this.driverStubLatency = Duration.ofMillis(getInt("driver.stub.latency.ms", 0));
+        this.fixturesEnabled = getBoolean("fixtures.enabled", false);
+        this.fixturesPort = getInt("fixtures.port", 0);
+        this.fixturesDir = getString("fixtures.dir", "src/test/resources2/fixtures");
+    }
+
+    private static Map<String, BrowserType> tagRoutes(Map<String, String> values) {
+        Map<String, BrowserType> routes = new HashMap<>();
+        routes.put("@nojs", BrowserType.HTMLUNIT);
+        routes.put("@api-like", BrowserType.CHROME_LITE);
+        values.forEach((key, value) -> {
+            if (key.startsWith("routing.tag.") && !value.isBlank()) {
+                routes.put("@" + key.substring("routing.tag.".length()), BrowserType.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            }
+        });
+        return Map.copyOf(routes);
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        String value = values.get(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    public Map<String, String> values() {
+        return values;
+    }
+
+    public BrowserType browser() {
+        return browser;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public int driverPoolMaxSessions() {
+        return driverPoolMaxSessions;
+    }
+
+    public Duration driverPoolAcquireTimeout() {
+        return driverPoolAcquireTimeout;
+    }
+
+    public boolean driverSessionReuse() {
+        return driverSessionReuse;
+    }
+
+    public int driverSessionMaxUses() {
+        return driverSessionMaxUses;
+    }
+
+    public boolean driverHeadless() {
+        return driverHeadless;
+    }
+
+    public int driverWarmupSessions() {
+        return driverWarmupSessions;
+    }
+
+    public boolean parallelEnabled() {
+        return parallelEnabled;
+    }
+
+    public int parallelThreads() {
+        return parallelThreads;
+    }
+
+    public String parallelDurationsFile() {
+        return parallelDurationsFile;
+    }
+
+    public boolean formFillNative() {
+        return formFillNative;
+    }
+
+    public PollingPolicy pollingPolicy() {
+        return pollingPolicy;
+    }
+
+    public boolean waitEventDriven() {
+        return waitEventDriven;
+    }
+
+    public PageLoadStrategy pageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+
+    public Duration scriptTimeout() {
+        return scriptTimeout;
+    }
+
+    public Duration networkIdle() {
+        return networkIdle;
+    }
+
+    public Duration pageReadyTimeout() {
+        return pageReadyTimeout;
+    }
+
+    public boolean pageElementCache() {
+        return pageElementCache;
+    }
+
+    public boolean instrumentationEnabled() {
+        return instrumentationEnabled;
+    }
+
+    public Duration componentLoadTimeout() {
+        return componentLoadTimeout;
+    }
+
+    public boolean asyncVirtualThreads() {
+        return asyncVirtualThreads;
+    }
+
+    public Duration asyncDrainTimeout() {
+        return asyncDrainTimeout;
+    }
+
+    public boolean driverStub() {
+        return driverStub;
+    }
+
+    public Duration driverStubLatency() {
+        return driverStubLatency;
+    }
+
+    public boolean fixturesEnabled() {
+        return fixturesEnabled;
+    }
+
+    public int fixturesPort() {
+        return fixturesPort;
+    }
+
+    public String fixturesDir() {
+        return fixturesDir;
+    }
+
+    // Cheapest browser routed by any of the tags, or null when no tag is routed
+    public BrowserType routeFor(Collection<String> tags) {
+        BrowserType cheapest = null;
+        for (String tag : tags) {
+            BrowserType routed = tagRoutes.get(tag);
+            if (routed != null && (cheapest == null || routed.cost() < cheapest.cost())) {
+                cheapest = routed;
+            }
+        }
+        return cheapest;
+    }
+}
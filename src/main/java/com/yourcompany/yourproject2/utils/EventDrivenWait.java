@@ -0,0 +1,104 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+
+public class EventDrivenWait {
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(2);
+
+    // Resolves with the element once it is visible, or with null when the page-side timer expires.
+    // Visible means rendered boxes, not visibility:hidden and no ancestor at opacity 0; unlike
+    // Selenium's isDisplayed atom it ignores clipping by overflow, so no extra round trip confirms it.
+    private static final String WAIT_FOR_VISIBLE_SCRIPT =
+            "var using = arguments[0], value = arguments[1], timeout = arguments[2];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function find() {"
+            + "  var el = using === 'css selector' ? document.querySelector(value)"
+            + "      : document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  if (!el || el.getClientRects().length === 0"
+            + "      || window.getComputedStyle(el).visibility === 'hidden') { return null; }"
+            + "  for (var n = el; n && n.nodeType === 1; n = n.parentElement) {"
+            + "    if (parseFloat(window.getComputedStyle(n).opacity) === 0) { return null; }"
+            + "  }"
+            + "  return el;"
+            + "}"
+            + "var found = find();"
+            + "if (found) { done(found); return; }"
+            + "var finished = false, observer, timer;"
+            + "function check() {"
+            + "  if (finished) { return; }"
+            + "  var el = find();"
+            + "  if (el) { finish(el); }"
+            + "}"
+            + "function finish(result) {"
+            + "  finished = true;"
+            + "  observer.disconnect();"
+            + "  clearTimeout(timer);"
+            + "  document.removeEventListener('transitionend', check, true);"
+            + "  document.removeEventListener('animationend', check, true);"
+            + "  done(result);"
+            + "}"
+            + "observer = new MutationObserver(check);"
+            + "observer.observe(document, {childList: true, subtree: true, attributes: true,"
+            + "    attributeFilter: ['style', 'class', 'hidden', 'open']});"
+            + "document.addEventListener('transitionend', check, true);"
+            + "document.addEventListener('animationend', check, true);"
+            + "timer = setTimeout(function () { finish(null); }, timeout);";
+
+    private final WebDriver driver;
+
+    EventDrivenWait(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static boolean supports(WebDriver driver, By locator) {
+        if (!ScriptSupport.isAvailable(driver) || !(locator instanceof By.Remotable)) {
+            return false;
+        }
+        String using = ((By.Remotable) locator).getRemoteParameters().using();
+        return "css selector".equals(using) || "xpath".equals(using);
+    }
+
+    public WebElement waitForVisible(By locator, Duration timeout) {
+        if (!supports(driver, locator)) {
+            return WaitUtils.forDriver(driver).until(ExpectedConditions.visibilityOfElementLocated(locator), timeout);
+        }
+        String condition = "event: visibility of element located by " + locator;
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        long start = System.nanoTime();
+        // Precondition: the session was created with driver.script.timeout.seconds (see
+        // DriverManager), so the page-side timer is kept inside it instead of reading and
+        // resetting the session timeout on every wait
+        Duration pageSide = ConfigReader.snapshot().scriptTimeout().minus(SCRIPT_TIMEOUT_MARGIN);
+        if (pageSide.compareTo(timeout) > 0) {
+            pageSide = timeout;
+        }
+        Object result = null;
+        if (!pageSide.isNegative() && !pageSide.isZero()) {
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_FOR_VISIBLE_SCRIPT,
+                        parameters.using(), String.valueOf(parameters.value()), pageSide.toMillis());
+            } catch (ScriptTimeoutException e) {
+                // The session runs a shorter script timeout than configured; poll out the rest
+            }
+        }
+        if (result instanceof WebElement) {
+            WaitStatistics.record(condition, System.nanoTime() - start, 1, true);
+            return (WebElement) result;
+        }
+        Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+        if (!remaining.isNegative() && !remaining.isZero()) {
+            return WaitUtils.forDriver(driver).until(ExpectedConditions.visibilityOfElementLocated(locator), remaining);
+        }
+        WaitStatistics.record(condition, System.nanoTime() - start, 1, false);
+        throw new TimeoutException("Expected condition failed: waiting for " + condition
+                + " (tried for " + timeout.toMillis() + " ms)");
+    }
+}
@@ -0,0 +1,49 @@
+package com.yourcompany.yourproject.utils;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+public final class Evidence {
+    public enum Reason { STEP, FAILURE, NAVIGATION }
+
+    private final String scenario;
+    private final String step;
+    private final Reason reason;
+    private final Instant capturedAt;
+    private final byte[] png;
+    private final Path file;
+
+    Evidence(String scenario, String step, Reason reason, Instant capturedAt, byte[] png, Path file) {
+        this.scenario = scenario;
+        this.step = step;
+        this.reason = reason;
+        this.capturedAt = capturedAt;
+        this.png = png;
+        this.file = file;
+    }
+
+    public String scenario() {
+        return scenario;
+    }
+
+    public String step() {
+        return step;
+    }
+
+    public Reason reason() {
+        return reason;
+    }
+
+    public Instant capturedAt() {
+        return capturedAt;
+    }
+
+    // Null when the driver could not take a screenshot
+    public byte[] png() {
+        return png;
+    }
+
+    public Path file() {
+        return file;
+    }
+}
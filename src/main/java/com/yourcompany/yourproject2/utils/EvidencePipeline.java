@@ -0,0 +1,220 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// The scenario thread only pulls the base64 screenshot from the driver. Decoding, disk writes and
+// sinks (report writers) run on AsyncTasks, in order per scenario. At most evidence.queue.capacity
+// captures are in flight; beyond that the scenario thread waits, and after evidence.queue.timeout.ms
+// the capture is dropped rather than stalling the run.
+public class EvidencePipeline {
+    private static final Logger LOG = Logger.getLogger(EvidencePipeline.class.getName());
+    private static final List<Consumer<Evidence>> sinks = new CopyOnWriteArrayList<>();
+    private static final ThreadLocal<ScenarioState> scenario = new ThreadLocal<>();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final List<Throwable> reportFailures = new CopyOnWriteArrayList<>();
+    private static volatile Settings settings = new Settings(ConfigReader.snapshot());
+    private static volatile Semaphore slots = new Semaphore(settings.capacity);
+
+    static {
+        ConfigReader.onReload(config -> {
+            settings = new Settings(config);
+            slots = new Semaphore(settings.capacity);
+        });
+    }
+
+    public static void addSink(Consumer<Evidence> sink) {
+        sinks.add(sink);
+    }
+
+    public static void removeSink(Consumer<Evidence> sink) {
+        sinks.remove(sink);
+    }
+
+    public static void startScenario(String name) {
+        ScenarioState state = new ScenarioState(name);
+        if (settings.docxReport) {
+            // Opened on the first stage so the temp files are not created on the scenario thread
+            Path target = EvidenceStore.newFile(name, "report", "docx");
+            state.tail = AsyncTasks.track(state.tail.thenRunAsync(
+                    () -> state.report = new EvidenceReportWriter(target, name), AsyncTasks.executor()));
+        }
+        scenario.set(state);
+    }
+
+    public static void afterStep(WebDriver driver, boolean failed) {
+        ScenarioState state = scenario.get();
+        if (state == null) {
+            return;
+        }
+        state.steps++;
+        String step = "step " + state.steps;
+        Settings current = settings;
+        if (failed && current.policies.contains(Evidence.Reason.FAILURE)) {
+            capture(driver, state, step, Evidence.Reason.FAILURE);
+        } else if (current.policies.contains(Evidence.Reason.STEP) && state.steps % current.everySteps == 0) {
+            capture(driver, state, step, Evidence.Reason.STEP);
+        }
+    }
+
+    public static void onNavigation(WebDriver driver, String url) {
+        ScenarioState state = scenario.get();
+        if (state != null && settings.policies.contains(Evidence.Reason.NAVIGATION)) {
+            capture(driver, state, url, Evidence.Reason.NAVIGATION);
+        }
+    }
+
+    // Completes once every capture of the current scenario has passed through all stages
+    public static CompletableFuture<Void> finishScenario() {
+        ScenarioState state = scenario.get();
+        scenario.remove();
+        if (state == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (state.report != null || settings.docxReport) {
+            // Nothing waits on the tail, so open and close failures are kept for checkReports()
+            state.tail = AsyncTasks.track(state.tail.handleAsync((ignored, error) -> {
+                if (error != null) {
+                    reportFailed(state, error instanceof CompletionException ? error.getCause() : error);
+                }
+                if (state.report != null) {
+                    try {
+                        state.report.close();
+                    } catch (RuntimeException e) {
+                        reportFailed(state, e);
+                    }
+                }
+                return null;
+            }, AsyncTasks.executor()));
+        }
+        return state.tail;
+    }
+
+    public static long droppedCount() {
+        return dropped.get();
+    }
+
+    // Call once the background tasks are drained; fails the run if any scenario report was not written
+    public static void checkReports() {
+        if (reportFailures.isEmpty()) {
+            return;
+        }
+        IllegalStateException failure = new IllegalStateException(
+                reportFailures.size() + " evidence report(s) could not be written");
+        reportFailures.forEach(failure::addSuppressed);
+        reportFailures.clear();
+        throw failure;
+    }
+
+    private static void reportFailed(ScenarioState state, Throwable error) {
+        LOG.log(Level.WARNING, "Evidence report failed for " + state.name, error);
+        reportFailures.add(error);
+    }
+
+    private static void capture(WebDriver driver, ScenarioState state, String step, Evidence.Reason reason) {
+        if (!(driver instanceof TakesScreenshot)) {
+            return;
+        }
+        Semaphore permits = slots;
+        if (!acquire(permits)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        String base64 = null;
+        try {
+            base64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        } catch (RuntimeException e) {
+            // A broken session must not fail the step that is only being documented
+        }
+        if (base64 == null) {
+            permits.release();
+            return;
+        }
+        String raw = base64;
+        Instant capturedAt = Instant.now();
+        // Named on the scenario thread so the sequence follows the scenario, not the worker
+        Path target = EvidenceStore.newFile(state.name, reason.name().toLowerCase(Locale.ROOT), "png");
+        state.tail = AsyncTasks.track(state.tail
+                .thenRunAsync(() -> {
+                    byte[] png = Base64.getMimeDecoder().decode(raw);
+                    Path file = EvidenceStore.write(target, png);
+                    Evidence evidence = new Evidence(state.name, step, reason, capturedAt, png, file);
+                    if (state.report != null) {
+                        state.report.accept(evidence);
+                    }
+                    publish(evidence);
+                }, AsyncTasks.executor())
+                .handle((ignored, error) -> {
+                    permits.release();
+                    if (error != null) {
+                        LOG.log(Level.WARNING, "Evidence capture failed for " + state.name, error);
+                    }
+                    return null;
+                }));
+    }
+
+    private static boolean acquire(Semaphore permits) {
+        try {
+            return permits.tryAcquire(settings.queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void publish(Evidence evidence) {
+        for (Consumer<Evidence> sink : sinks) {
+            sink.accept(evidence);
+        }
+    }
+
+    private static final class ScenarioState {
+        private final String name;
+        private int steps;
+        private volatile EvidenceReportWriter report;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private ScenarioState(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Settings {
+        private final Set<Evidence.Reason> policies = EnumSet.noneOf(Evidence.Reason.class);
+        private final int everySteps;
+        private final int capacity;
+        private final long queueTimeoutMillis;
+        private final boolean docxReport;
+
+        private Settings(ConfigSnapshot config) {
+            // evidence.capture=failure,navigation,step; an empty value turns screenshots off
+            for (String policy : config.getString("evidence.capture", "failure").split(",")) {
+                if (!policy.isBlank()) {
+                    policies.add(Evidence.Reason.valueOf(policy.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+            this.everySteps = Math.max(1, config.getInt("evidence.capture.every.steps", 1));
+            this.capacity = Math.max(1, config.getInt("evidence.queue.capacity", 16));
+            this.queueTimeoutMillis = config.getInt("evidence.queue.timeout.ms", 5000);
+            this.docxReport = config.getBoolean("evidence.report.docx", false);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.yourcompany.yourproject.utils;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Writes a .docx incrementally: images go straight into the zip as they arrive and the document body
+// is spooled to a temp file, so heap use does not grow with the number of steps. Not thread-safe;
+// EvidencePipeline already delivers one scenario's evidence in order on one chain.
+public class EvidenceReportWriter implements Consumer<Evidence>, Closeable {
+    private static final long MAX_WIDTH_EMU = 5_486_400L; // 6 inches
+    private static final long EMU_PER_PIXEL = 9_525L;
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Path target;
+    private final Path partial;
+    private final Path body;
+    private final ZipOutputStream zip;
+    private final Writer bodyWriter;
+    private int images;
+    private boolean closed;
+
+    public EvidenceReportWriter(Path target, String title) {
+        this.target = target;
+        try {
+            this.partial = target.resolveSibling(target.getFileName() + ".part");
+            this.body = Files.createTempFile("evidence-body", ".xml");
+            this.zip = new ZipOutputStream(Files.newOutputStream(partial));
+            this.bodyWriter = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(body),
+                    StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start evidence report " + target, e);
+        }
+        paragraph(title, true);
+    }
+
+    @Override
+    public void accept(Evidence evidence) {
+        paragraph(evidence.step() + " - " + evidence.reason().name().toLowerCase(Locale.ROOT)
+                + " - " + TIME_FORMAT.format(evidence.capturedAt()), true);
+        if (evidence.png() != null) {
+            addImage(evidence.png());
+        }
+    }
+
+    public void addText(String text) {
+        paragraph(text, false);
+    }
+
+    public void addImage(byte[] png) {
+        int id = ++images;
+        long[] extent = extent(png);
+        try {
+            ZipEntry entry = new ZipEntry("word/media/image" + id + ".png");
+            // PNG is already compressed; storing it skips a pointless deflate pass
+            CRC32 crc = new CRC32();
+            crc.update(png);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(png.length);
+            entry.setCrc(crc.getValue());
+            zip.putNextEntry(entry);
+            zip.write(png);
+            zip.closeEntry();
+            bodyWriter.write("<w:p><w:r><w:drawing><wp:inline>"
+                    + "<wp:extent cx=\"" + extent[0] + "\" cy=\"" + extent[1] + "\"/>"
+                    + "<wp:docPr id=\"" + id + "\" name=\"Picture " + id + "\"/>"
+                    + "<a:graphic><a:graphicData uri=\"http://schemas.openxmlformats.org/drawingml/2006/picture\">"
+                    + "<pic:pic><pic:nvPicPr><pic:cNvPr id=\"" + id + "\" name=\"image" + id + ".png\"/>"
+                    + "<pic:cNvPicPr/></pic:nvPicPr>"
+                    + "<pic:blipFill><a:blip r:embed=\"rIdImg" + id + "\"/><a:stretch><a:fillRect/></a:stretch>"
+                    + "</pic:blipFill><pic:spPr><a:xfrm><a:off x=\"0\" y=\"0\"/>"
+                    + "<a:ext cx=\"" + extent[0] + "\" cy=\"" + extent[1] + "\"/></a:xfrm>"
+                    + "<a:prstGeom prst=\"rect\"><a:avLst/></a:prstGeom></pic:spPr></pic:pic>"
+                    + "</a:graphicData></a:graphic></wp:inline></w:drawing></w:r></w:p>");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append image to " + target, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            bodyWriter.close();
+            writeEntry("[Content_Types].xml", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                    + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                    + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+                    + "<Default Extension=\"png\" ContentType=\"image/png\"/>"
+                    + "<Override PartName=\"/word/document.xml\" ContentType=\""
+                    + "application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/>"
+                    + "</Types>");
+            writeEntry("_rels/.rels", "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                    + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/"
+                    + "relationships/officeDocument\" Target=\"word/document.xml\"/></Relationships>");
+            writeDocument();
+            writeRelationships();
+            zip.close();
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot finish evidence report " + target, e);
+        } finally {
+            try {
+                Files.deleteIfExists(body);
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+                // Temp files only
+            }
+        }
+    }
+
+    public Path target() {
+        return target;
+    }
+
+    private void paragraph(String text, boolean bold) {
+        try {
+            bodyWriter.write("<w:p><w:r>" + (bold ? "<w:rPr><w:b/></w:rPr>" : "")
+                    + "<w:t xml:space=\"preserve\">" + escape(text) + "</w:t></w:r></w:p>");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append text to " + target, e);
+        }
+    }
+
+    private void writeDocument() throws IOException {
+        zip.putNextEntry(new ZipEntry("word/document.xml"));
+        write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\""
+                + " xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\""
+                + " xmlns:wp=\"http://schemas.openxmlformats.org/drawingml/2006/wordprocessingDrawing\""
+                + " xmlns:a=\"http://schemas.openxmlformats.org/drawingml/2006/main\""
+                + " xmlns:pic=\"http://schemas.openxmlformats.org/drawingml/2006/picture\"><w:body>");
+        Files.copy(body, zip);
+        write("<w:sectPr/></w:body></w:document>");
+        zip.closeEntry();
+    }
+
+    private void writeRelationships() throws IOException {
+        zip.putNextEntry(new ZipEntry("word/_rels/document.xml.rels"));
+        write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int id = 1; id <= images; id++) {
+            write("<Relationship Id=\"rIdImg" + id + "\" Type=\"http://schemas.openxmlformats.org/officeDocument/"
+                    + "2006/relationships/image\" Target=\"media/image" + id + ".png\"/>");
+        }
+        write("</Relationships>");
+        zip.closeEntry();
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        write(content);
+        zip.closeEntry();
+    }
+
+    private void write(String content) throws IOException {
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Width and height from the IHDR chunk, scaled down to fit the page width
+    private static long[] extent(byte[] png) {
+        long width = 800;
+        long height = 600;
+        if (png.length >= 24 && png[12] == 'I' && png[13] == 'H' && png[14] == 'D' && png[15] == 'R') {
+            width = readInt(png, 16);
+            height = readInt(png, 20);
+        }
+        long cx = width * EMU_PER_PIXEL;
+        long cy = height * EMU_PER_PIXEL;
+        if (cx > MAX_WIDTH_EMU) {
+            cy = cy * MAX_WIDTH_EMU / cx;
+            cx = MAX_WIDTH_EMU;
+        }
+        return new long[] {cx, cy};
+    }
+
+    private static long readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFFL) << 24) | ((bytes[offset + 1] & 0xFFL) << 16)
+                | ((bytes[offset + 2] & 0xFFL) << 8) | (bytes[offset + 3] & 0xFFL);
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&': escaped.append("&amp;"); break;
+                case '<': escaped.append("&lt;"); break;
+                case '>': escaped.append("&gt;"); break;
+                case '"': escaped.append("&quot;"); break;
+                default:
+                    // Control characters other than tab/newline are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t' || c == '\n') {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}
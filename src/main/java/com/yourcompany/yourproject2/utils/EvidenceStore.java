@@ -0,0 +1,108 @@
+package com.yourcompany.yourproject.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Evidence layout: <evidence.dir>/<run id>-<pid>/<scenario>/<time>_t<thread>-<seq>_<label>.<ext>
+// Directories are created once per run and per scenario; names are unique without touching the disk.
+public class EvidenceStore {
+    private static final DateTimeFormatter RUN_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final DateTimeFormatter FILE_FORMAT = DateTimeFormatter.ofPattern("HHmmss.SSS");
+    private static final Map<String, Path> scenarioDirectories = new ConcurrentHashMap<>();
+    private static final ThreadLocal<int[]> sequence = ThreadLocal.withInitial(() -> new int[1]);
+
+    public static Path runDirectory() {
+        return RunDirectory.PATH;
+    }
+
+    public static Path scenarioDirectory(String scenario) {
+        return scenarioDirectories.computeIfAbsent(sanitize(scenario), name -> {
+            Path directory = runDirectory().resolve(name);
+            try {
+                return Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create evidence directory " + directory, e);
+            }
+        });
+    }
+
+    // The thread id keeps names from parallel scenarios apart; the per-thread counter orders them
+    public static Path newFile(String scenario, String label, String extension) {
+        int next = ++sequence.get()[0];
+        String name = new StringBuilder(48)
+                .append(FILE_FORMAT.format(LocalTime.now()))
+                .append("_t").append(Thread.currentThread().getId())
+                .append('-').append(next)
+                .append('_').append(sanitize(label))
+                .append('.').append(extension)
+                .toString();
+        return scenarioDirectory(scenario).resolve(name);
+    }
+
+    public static Path write(String scenario, String label, String extension, byte[] data) {
+        return write(newFile(scenario, label, extension), data);
+    }
+
+    public static Path write(Path file, byte[] data) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write evidence " + file, e);
+        }
+        return file;
+    }
+
+    static String sanitize(String value) {
+        StringBuilder name = new StringBuilder(value.length());
+        boolean separator = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 128 && (Character.isLetterOrDigit(c) || c == '.' || c == '-')) {
+                name.append(c);
+                separator = false;
+            } else if (!separator && name.length() > 0) {
+                name.append('_');
+                separator = true;
+            }
+        }
+        int end = name.length();
+        if (end > 0 && name.charAt(end - 1) == '_') {
+            name.setLength(end - 1);
+        }
+        if (name.length() == 0) {
+            return "unnamed";
+        }
+        // "." and ".." would resolve to the run directory or its parent
+        return name.chars().allMatch(c -> c == '.') ? "_" : name.toString();
+    }
+
+    private static final class RunDirectory {
+        // The pid keeps forked JVMs apart, whether they start in the same second or share a fixed
+        // evidence.run.id; files are created with CREATE_NEW, so a shared directory would collide
+        private static final Path PATH = create(ConfigReader.snapshot().getString("evidence.run.id",
+                RUN_FORMAT.format(LocalDateTime.now())) + "-" + ProcessHandle.current().pid());
+
+        private static Path create(String runId) {
+            Path directory = Paths.get(ConfigReader.snapshot().getString("evidence.dir", "target/evidence"), runId);
+            try {
+                return Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create evidence directory " + directory, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Instrumentation {
+    public static final String COMMAND = "command";
+    public static final String STEP = "step";
+    public static final String PAGE = "page";
+    public static final String WAIT = "wait";
+    public static final String COMPONENT = "component";
+
+    private static final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentPage = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        return ConfigReader.snapshot().instrumentationEnabled();
+    }
+
+    public static void record(String category, String name, long nanos) {
+        if (!isEnabled()) {
+            return;
+        }
+        histograms.computeIfAbsent(category, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, n -> new LatencyHistogram())
+                .recordNanos(nanos);
+    }
+
+    // WebDriver time on this thread is attributed to the page object constructed last
+    public static void enterPage(String page) {
+        currentPage.set(page);
+    }
+
+    public static String currentPage() {
+        return currentPage.get();
+    }
+
+    public static void clearPage() {
+        currentPage.remove();
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+
+    public static List<Map<String, Object>> rows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        new TreeMap<>(histograms).forEach((category, byName) -> new TreeMap<>(byName).forEach((name, h) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("category", category);
+            row.put("name", name);
+            row.put("count", h.count());
+            row.put("meanMs", round(h.meanMillis()));
+            row.put("p50Ms", round(h.percentileMillis(50)));
+            row.put("p95Ms", round(h.percentileMillis(95)));
+            row.put("p99Ms", round(h.percentileMillis(99)));
+            row.put("maxMs", round(h.maxMillis()));
+            rows.add(row);
+        }));
+        return rows;
+    }
+
+    public static void export(Path directory) {
+        List<Map<String, Object>> rows = rows();
+        StringBuilder csv = new StringBuilder("category,name,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+        for (Map<String, Object> row : rows) {
+            csv.append(row.get("category")).append(',')
+                    .append('"').append(String.valueOf(row.get("name")).replace("\"", "\"\"")).append('"');
+            for (String column : List.of("count", "meanMs", "p50Ms", "p95Ms", "p99Ms", "maxMs")) {
+                csv.append(',').append(row.get(column));
+            }
+            csv.append('\n');
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("latency-report.json"), new Json().toJson(rows));
+            Files.writeString(directory.resolve("latency-report.csv"), csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write latency report to " + directory, e);
+        }
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
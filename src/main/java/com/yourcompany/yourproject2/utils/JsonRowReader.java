@@ -0,0 +1,115 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+import org.openqa.selenium.json.JsonType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Accepts [ {row}, ... ], { "key": {row}, ... } (the key fills the key column) or
+// { "table": [ ... ], ... } selected by part. Nested objects flatten to dotted column names.
+class JsonRowReader implements RowReader {
+    @Override
+    public void read(Path file, String part, Predicate<Map<String, String>> visitor) throws IOException {
+        String keyColumn = ConfigReader.snapshot().getString("testdata.key.column", "id");
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             JsonInput input = new Json().newInput(reader)) {
+            if (input.peek() == JsonType.START_COLLECTION) {
+                readArray(input, visitor);
+                return;
+            }
+            input.beginObject();
+            while (input.hasNext()) {
+                String name = input.nextName();
+                JsonType type = input.peek();
+                if (part != null && !part.equals(name)
+                        || type != JsonType.START_COLLECTION && type != JsonType.START_MAP) {
+                    input.skipValue();
+                } else if (type == JsonType.START_COLLECTION) {
+                    readArray(input, visitor);
+                    return;
+                } else {
+                    Map<String, String> row = readRow(input);
+                    row.putIfAbsent(keyColumn, name);
+                    if (!visitor.test(row)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void readArray(JsonInput input, Predicate<Map<String, String>> visitor) {
+        input.beginArray();
+        while (input.hasNext()) {
+            if (input.peek() != JsonType.START_MAP) {
+                input.skipValue();
+            } else if (!visitor.test(readRow(input))) {
+                return;
+            }
+        }
+        input.endArray();
+    }
+
+    private static Map<String, String> readRow(JsonInput input) {
+        Map<String, String> row = new LinkedHashMap<>();
+        readObject(input, "", row);
+        return row;
+    }
+
+    private static void readObject(JsonInput input, String prefix, Map<String, String> row) {
+        input.beginObject();
+        while (input.hasNext()) {
+            String name = prefix + input.nextName();
+            switch (input.peek()) {
+                case START_MAP:
+                    readObject(input, name + ".", row);
+                    break;
+                case START_COLLECTION:
+                    row.put(name, readList(input));
+                    break;
+                case STRING:
+                    row.put(name, input.nextString());
+                    break;
+                case NUMBER:
+                    row.put(name, input.nextNumber().toString());
+                    break;
+                case BOOLEAN:
+                    row.put(name, String.valueOf(input.nextBoolean()));
+                    break;
+                default:
+                    input.skipValue();
+            }
+        }
+        input.endObject();
+    }
+
+    // Scalar lists become comma separated values; nested structures inside lists are skipped
+    private static String readList(JsonInput input) {
+        StringBuilder values = new StringBuilder();
+        input.beginArray();
+        while (input.hasNext()) {
+            JsonType type = input.peek();
+            String value = type == JsonType.STRING ? input.nextString()
+                    : type == JsonType.NUMBER ? input.nextNumber().toString()
+                    : type == JsonType.BOOLEAN ? String.valueOf(input.nextBoolean()) : null;
+            if (value == null) {
+                input.skipValue();
+                continue;
+            }
+            if (values.length() > 0) {
+                values.append(',');
+            }
+            values.append(value);
+        }
+        input.endArray();
+        return values.toString();
+    }
+}
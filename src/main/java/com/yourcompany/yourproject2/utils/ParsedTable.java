@@ -0,0 +1,110 @@
+package com.yourcompany.yourproject.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Rows are kept as value arrays against one shared column list, not as a map per row
+final class ParsedTable implements TestDataTable {
+    private final List<String> columns;
+    private final List<String[]> rows;
+    private final int keyColumn;
+    private final Map<String, Integer> index;
+
+    ParsedTable(List<String> columns, List<String[]> rows, String keyColumn) {
+        this.columns = Collections.unmodifiableList(columns);
+        this.rows = rows;
+        int key = columns.indexOf(keyColumn);
+        if (key < 0 && !rows.isEmpty()) {
+            throw new IllegalArgumentException("Key column '" + keyColumn + "' not in columns " + columns);
+        }
+        this.keyColumn = Math.max(0, key);
+        this.index = new HashMap<>(Math.max(16, rows.size() * 4 / 3 + 1));
+        for (int i = 0; i < rows.size(); i++) {
+            String value = value(rows.get(i), this.keyColumn);
+            if (value != null) {
+                // First occurrence wins, as it would for a top-down scan
+                index.putIfAbsent(value, i);
+            }
+        }
+    }
+
+    @Override
+    public List<String> columns() {
+        return columns;
+    }
+
+    @Override
+    public String keyColumn() {
+        return columns.isEmpty() ? null : columns.get(keyColumn);
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public Map<String, String> row(int position) {
+        String[] values = rows.get(position);
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String value = value(values, i);
+            if (value != null) {
+                row.put(columns.get(i), value);
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public Map<String, String> row(String key) {
+        Integer position = index.get(key);
+        return position == null ? null : row(position);
+    }
+
+    @Override
+    public String value(int row, int column) {
+        return value(rows.get(row), column);
+    }
+
+    private static String value(String[] values, int column) {
+        return column < values.length ? values[column] : null;
+    }
+
+    static final class Builder {
+        private final List<String> columns = new ArrayList<>();
+        private final Map<String, Integer> positions = new HashMap<>();
+        private final List<String[]> rows = new ArrayList<>();
+
+        boolean add(Map<String, String> row) {
+            String[] values = new String[columns.size() + row.size()];
+            int width = 0;
+            for (Map.Entry<String, String> cell : row.entrySet()) {
+                Integer column = positions.get(cell.getKey());
+                if (column == null) {
+                    column = columns.size();
+                    columns.add(cell.getKey());
+                    positions.put(cell.getKey(), column);
+                }
+                values[column] = cell.getValue();
+                width = Math.max(width, column + 1);
+            }
+            rows.add(Arrays.copyOf(values, width));
+            return true;
+        }
+
+        ParsedTable build(String keyColumn) {
+            return new ParsedTable(columns, rows, keyColumn);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.yourcompany.yourproject.utils;
+
+import java.time.Duration;
+
+public final class PollingPolicy {
+    private final Duration initial;
+    private final Duration max;
+    private final double backoff;
+
+    public PollingPolicy(Duration initial, Duration max, double backoff) {
+        if (initial.isNegative() || max.compareTo(initial) < 0 || backoff < 1.0) {
+            throw new IllegalArgumentException("Invalid polling policy: " + initial + ", " + max + ", x" + backoff);
+        }
+        this.initial = initial;
+        this.max = max;
+        this.backoff = backoff;
+    }
+
+    public static PollingPolicy fixed(Duration interval) {
+        return new PollingPolicy(interval, interval, 1.0);
+    }
+
+    public Duration initial() {
+        return initial;
+    }
+
+    public Duration next(Duration previous) {
+        long nanos = (long) Math.min(previous.toNanos() * backoff, max.toNanos());
+        return Duration.ofNanos(Math.max(nanos, initial.toNanos()));
+    }
+
+    @Override
+    public String toString() {
+        return "PollingPolicy[" + initial.toMillis() + "ms..." + max.toMillis() + "ms, x" + backoff + "]";
+    }
+}
@@ -0,0 +1,12 @@
+package com.yourcompany.yourproject.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Streams flat rows out of a test data file. Part selects a sheet, or a top-level key for YAML/JSON
+// documents holding several tables; null means the first one. Stops when the visitor returns false.
+interface RowReader {
+    void read(Path file, String part, Predicate<Map<String, String>> visitor) throws IOException;
+}
@@ -0,0 +1,46 @@
+package com.yourcompany.yourproject.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+import java.lang.reflect.Method;
+
+// Implementing JavascriptExecutor does not mean scripts run: HtmlUnitDriver with JavaScript off
+// still implements it and throws on every call. Script-based shortcuts check here first.
+public class ScriptSupport {
+    private static final ClassValue<Method> JAVASCRIPT_ENABLED = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                Method method = type.getMethod("isJavascriptEnabled");
+                if (method.getReturnType() != boolean.class) {
+                    return null;
+                }
+                method.trySetAccessible();
+                return method;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
+    public static boolean isAvailable(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        WebDriver target = driver;
+        while (target instanceof WrapsDriver) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        Method enabled = JAVASCRIPT_ENABLED.get(target.getClass());
+        if (enabled == null) {
+            return target instanceof JavascriptExecutor;
+        }
+        try {
+            return (Boolean) enabled.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.yourcompany.yourproject.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Test data from YAML, JSON or XLSX files under testdata.dir. A source is a file name, optionally
+// with a sheet: "users.xlsx#Admins". The first row(), rows() or table() call reads the whole
+// source into a keyed table shared by all threads; only forEach hands rows over as they are read,
+// without building a table. Every row needs the testdata.key.column column. Parsed tables are also
+// compiled to memory-mapped snapshots (see TestDataCompiler).
+public class TestData {
+    private static final Logger LOG = Logger.getLogger(TestData.class.getName());
+    private static final Map<String, CompletableFuture<TestDataTable>> tables = new ConcurrentHashMap<>();
+
+    static {
+        ConfigReader.onReload(config -> tables.clear());
+    }
+
+    public static Map<String, String> row(String source, String key) {
+        Map<String, String> row = table(source).row(key);
+        if (row == null) {
+            throw new IllegalArgumentException("No row '" + key + "' in test data " + source);
+        }
+        return row;
+    }
+
+    public static List<Map<String, String>> rows(String source) {
+        return table(source).rows();
+    }
+
+    public static TestDataTable table(String source) {
+        CompletableFuture<TestDataTable> pending = new CompletableFuture<>();
+        CompletableFuture<TestDataTable> existing = tables.putIfAbsent(source, pending);
+        if (existing == null) {
+            // Only the first caller parses; others wait on the same future instead of parsing again
+            try {
+                pending.complete(load(source));
+            } catch (RuntimeException e) {
+                tables.remove(source, pending);
+                pending.completeExceptionally(e);
+            }
+            existing = pending;
+        }
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    // Streams rows in file order until the visitor returns false; nothing is cached
+    public static void forEach(String source, Predicate<Map<String, String>> visitor) {
+        read(source, visitor);
+    }
+
+    public static void clear() {
+        tables.clear();
+    }
+
+    // Prefers a compiled snapshot whose hash matches the source; otherwise parses, and writes one
+    // for the next JVM when testdata.snapshot.write is on
+    static TestDataTable load(String source) {
+        ConfigSnapshot config = ConfigReader.snapshot();
+        String keyColumn = config.getString("testdata.key.column", "id");
+        if (!config.getBoolean("testdata.snapshot.enabled", true)) {
+            return parse(source, keyColumn);
+        }
+        Path file = resolve(source);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Test data file not found: " + file);
+        }
+        byte[] hash = TestDataSnapshot.hash(file, part(source), keyColumn);
+        Path snapshotFile = snapshotFile(source);
+        TestDataSnapshot snapshot = TestDataSnapshot.open(snapshotFile, hash);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        TestDataTable table = parse(source, keyColumn);
+        if (config.getBoolean("testdata.snapshot.write", true)) {
+            try {
+                TestDataSnapshot.write(table, hash, snapshotFile);
+            } catch (UncheckedIOException e) {
+                // The snapshot only speeds up the next JVM; the parsed table is still good
+                LOG.log(Level.WARNING, "Cannot write test data snapshot for " + source, e);
+            }
+        }
+        return table;
+    }
+
+    static TestDataTable parse(String source, String keyColumn) {
+        ParsedTable.Builder builder = new ParsedTable.Builder();
+        read(source, builder::add);
+        try {
+            return builder.build(keyColumn);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Test data " + source + ": " + e.getMessage(), e);
+        }
+    }
+
+    static Path snapshotFile(String source) {
+        Path directory = Paths.get(
+                ConfigReader.snapshot().getString("testdata.snapshot.dir", "target/testdata-snapshots"));
+        return directory.resolve(source.replace('#', '@').replace('/', '_') + ".tds");
+    }
+
+    static String part(String source) {
+        int hash = source.indexOf('#');
+        return hash < 0 ? null : source.substring(hash + 1);
+    }
+
+    static Path resolve(String source) {
+        int hash = source.indexOf('#');
+        String file = hash < 0 ? source : source.substring(0, hash);
+        return Paths.get(ConfigReader.snapshot().getString("testdata.dir", "src/test/resources2/testdata")).resolve(file);
+    }
+
+    private static void read(String source, Predicate<Map<String, String>> visitor) {
+        String part = part(source);
+        Path file = resolve(source);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Test data file not found: " + file);
+        }
+        try {
+            readerFor(file).read(file, part, visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read test data " + file, e);
+        }
+    }
+
+    private static RowReader readerFor(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xlsx")) {
+            return new XlsxRowReader();
+        }
+        if (name.endsWith(".json")) {
+            return new JsonRowReader();
+        }
+        if (name.endsWith(".yaml") || name.endsWith(".yml")) {
+            return new YamlRowReader();
+        }
+        throw new IllegalArgumentException("Unsupported test data format: " + file);
+    }
+}
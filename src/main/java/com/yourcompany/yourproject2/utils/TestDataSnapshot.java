@@ -0,0 +1,342 @@
+package com.yourcompany.yourproject.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// A compiled test data table, memory-mapped read-only so opening it costs no parsing and every
+// JVM on the machine shares the same page cache. Strings are decoded only when a cell is read.
+// Layout (big-endian ints):
+//   magic, version, sha-256 of source (32 bytes), columns, rows, key column, strings, index slots
+//   column name ids[columns], column types[columns], cells[rows * columns], index[slots],
+//   string offsets[strings + 1], UTF-8 string bytes
+// Cells of INTEGER columns hold the value itself, BOOLEAN cells 0/1, STRING cells a string id.
+public final class TestDataSnapshot implements TestDataTable {
+    static final int MAGIC = 0x54445331;
+    static final int VERSION = 1;
+    private static final int HASH_BYTES = 32;
+    private static final int HEADER_BYTES = 8 + HASH_BYTES + 5 * 4;
+    private static final int STRING = 0;
+    private static final int INTEGER = 1;
+    private static final int BOOLEAN = 2;
+    private static final int EMPTY = -1;
+    private static final int EMPTY_INTEGER = Integer.MIN_VALUE;
+
+    private final ByteBuffer buffer;
+    private final List<String> columns;
+    private final int[] types;
+    private final int rows;
+    private final int keyColumn;
+    private final int slots;
+    private final int cellsAt;
+    private final int indexAt;
+    private final int offsetsAt;
+    private final int stringsAt;
+
+    private TestDataSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int columnCount = buffer.getInt(8 + HASH_BYTES);
+        this.rows = buffer.getInt(12 + HASH_BYTES);
+        this.keyColumn = buffer.getInt(16 + HASH_BYTES);
+        int strings = buffer.getInt(20 + HASH_BYTES);
+        this.slots = buffer.getInt(24 + HASH_BYTES);
+        int typesAt = HEADER_BYTES + 4 * columnCount;
+        this.cellsAt = typesAt + 4 * columnCount;
+        this.indexAt = cellsAt + 4 * rows * columnCount;
+        this.offsetsAt = indexAt + 4 * slots;
+        this.stringsAt = offsetsAt + 4 * (strings + 1);
+        this.types = new int[columnCount];
+        List<String> names = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            names.add(string(buffer.getInt(HEADER_BYTES + 4 * i)));
+            types[i] = buffer.getInt(typesAt + 4 * i);
+        }
+        this.columns = Collections.unmodifiableList(names);
+    }
+
+    // Null when the file is missing, truncated, from another format version, or built from different content
+    public static TestDataSnapshot open(Path file, byte[] sourceHash) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return null;
+            }
+            byte[] hash = new byte[HASH_BYTES];
+            buffer.get(8, hash);
+            if (!Arrays.equals(hash, sourceHash) || buffer.capacity() != expectedSize(buffer)) {
+                return null;
+            }
+            return new TestDataSnapshot(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map test data snapshot " + file, e);
+        }
+    }
+
+    // Size the header describes, or -1 when its counts cannot describe a complete file of this capacity
+    private static long expectedSize(ByteBuffer buffer) {
+        long columnCount = buffer.getInt(8 + HASH_BYTES);
+        long rowCount = buffer.getInt(12 + HASH_BYTES);
+        long strings = buffer.getInt(20 + HASH_BYTES);
+        long slots = buffer.getInt(24 + HASH_BYTES);
+        if (columnCount < 0 || rowCount < 0 || strings < 0 || slots <= 0
+                || rowCount * columnCount > buffer.capacity()) {
+            return -1;
+        }
+        long offsetsAt = HEADER_BYTES + 4 * (2 * columnCount + rowCount * columnCount + slots);
+        long stringsAt = offsetsAt + 4 * (strings + 1);
+        if (stringsAt > buffer.capacity()) {
+            return -1;
+        }
+        return stringsAt + buffer.getInt((int) (stringsAt - 4));
+    }
+
+    // Covers the file content and everything else that changes what the table looks like
+    public static byte[] hash(Path source, String part, String keyColumn) {
+        try (InputStream in = Files.newInputStream(source)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(chunk)) > 0) {
+                digest.update(chunk, 0, read);
+            }
+            digest.update(("\0" + part + "\0" + keyColumn).getBytes(StandardCharsets.UTF_8));
+            return digest.digest();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot hash test data " + source, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void write(TestDataTable table, byte[] sourceHash, Path file) {
+        List<String> columns = table.columns();
+        int columnCount = columns.size();
+        int rowCount = table.size();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        int[] columnIds = new int[columnCount];
+        int[] types = new int[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            columnIds[c] = intern(strings, columns.get(c));
+            types[c] = inferType(table, c);
+        }
+        int[] cells = new int[rowCount * columnCount];
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                cells[r * columnCount + c] = encode(table.value(r, c), types[c], strings);
+            }
+        }
+        int keyColumn = columns.indexOf(table.keyColumn());
+        if (keyColumn < 0 && rowCount > 0) {
+            throw new IllegalArgumentException("Key column '" + table.keyColumn() + "' not in columns " + columns);
+        }
+        keyColumn = Math.max(0, keyColumn);
+        // Open addressing at <= 50% load, so a miss usually ends on the first empty slot
+        int slots = Integer.highestOneBit(Math.max(1, rowCount) * 2 - 1) << 1;
+        int[] index = new int[slots];
+        Arrays.fill(index, EMPTY);
+        for (int r = 0; r < rowCount && columnCount > 0; r++) {
+            String key = table.value(r, keyColumn);
+            if (key == null) {
+                continue;
+            }
+            int slot = spread(key.hashCode()) & (slots - 1);
+            while (index[slot] != EMPTY && !key.equals(table.value(index[slot], keyColumn))) {
+                slot = (slot + 1) & (slots - 1);
+            }
+            if (index[slot] == EMPTY) {
+                index[slot] = r;
+            }
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Path partial = null;
+        try {
+            Files.createDirectories(directory);
+            // Unique per writer, so JVMs compiling the same table never write into one file
+            partial = Files.createTempFile(directory, file.getFileName().toString(), ".part");
+            try (OutputStream stream = Files.newOutputStream(partial);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.write(sourceHash);
+                out.writeInt(columnCount);
+                out.writeInt(rowCount);
+                out.writeInt(keyColumn);
+                out.writeInt(strings.size());
+                out.writeInt(slots);
+                writeInts(out, columnIds);
+                writeInts(out, types);
+                writeInts(out, cells);
+                writeInts(out, index);
+                List<byte[]> encoded = new ArrayList<>(strings.size());
+                int offset = 0;
+                out.writeInt(offset);
+                for (String value : strings.keySet()) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    encoded.add(bytes);
+                    offset += bytes.length;
+                    out.writeInt(offset);
+                }
+                for (byte[] bytes : encoded) {
+                    out.write(bytes);
+                }
+            }
+            // Another JVM may be mapping the old file; replace it atomically rather than rewriting in place
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (partial != null) {
+                try {
+                    Files.deleteIfExists(partial);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException("Cannot write test data snapshot " + file, e);
+        }
+    }
+
+    @Override
+    public List<String> columns() {
+        return columns;
+    }
+
+    @Override
+    public String keyColumn() {
+        return columns.isEmpty() ? null : columns.get(keyColumn);
+    }
+
+    @Override
+    public int size() {
+        return rows;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return find(key) != EMPTY;
+    }
+
+    @Override
+    public Map<String, String> row(int position) {
+        if (position < 0 || position >= rows) {
+            throw new IndexOutOfBoundsException("Row " + position + " of " + rows);
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int c = 0; c < columns.size(); c++) {
+            String value = value(position, c);
+            if (value != null) {
+                row.put(columns.get(c), value);
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public Map<String, String> row(String key) {
+        int position = find(key);
+        return position == EMPTY ? null : row(position);
+    }
+
+    @Override
+    public String value(int row, int column) {
+        int cell = buffer.getInt(cellsAt + 4 * (row * columns.size() + column));
+        switch (types[column]) {
+            case INTEGER:
+                return cell == EMPTY_INTEGER ? null : Integer.toString(cell);
+            case BOOLEAN:
+                return cell == EMPTY ? null : String.valueOf(cell == 1);
+            default:
+                return cell == EMPTY ? null : string(cell);
+        }
+    }
+
+    private int find(String key) {
+        if (columns.isEmpty()) {
+            return EMPTY;
+        }
+        int slot = spread(key.hashCode()) & (slots - 1);
+        int position;
+        while ((position = buffer.getInt(indexAt + 4 * slot)) != EMPTY) {
+            if (key.equals(value(position, keyColumn))) {
+                return position;
+            }
+            slot = (slot + 1) & (slots - 1);
+        }
+        return EMPTY;
+    }
+
+    private String string(int id) {
+        int start = buffer.getInt(offsetsAt + 4 * id);
+        byte[] bytes = new byte[buffer.getInt(offsetsAt + 4 * (id + 1)) - start];
+        buffer.get(stringsAt + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int inferType(TestDataTable table, int column) {
+        boolean integers = true;
+        boolean booleans = true;
+        for (int r = 0; r < table.size() && (integers || booleans); r++) {
+            String value = table.value(r, column);
+            if (value == null) {
+                continue;
+            }
+            booleans &= "true".equals(value) || "false".equals(value);
+            integers &= isCanonicalInt(value);
+        }
+        return integers ? INTEGER : booleans ? BOOLEAN : STRING;
+    }
+
+    // Only values that print back identically, so "007" or "+1" stay strings
+    private static boolean isCanonicalInt(String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            return parsed != EMPTY_INTEGER && Integer.toString(parsed).equals(value);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static int encode(String value, int type, Map<String, Integer> strings) {
+        switch (type) {
+            case INTEGER:
+                return value == null ? EMPTY_INTEGER : Integer.parseInt(value);
+            case BOOLEAN:
+                return value == null ? EMPTY : "true".equals(value) ? 1 : 0;
+            default:
+                return value == null ? EMPTY : intern(strings, value);
+        }
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        return strings.computeIfAbsent(value, v -> strings.size());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.yourcompany.yourproject.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public interface TestDataTable {
+    List<String> columns();
+
+    String keyColumn();
+
+    int size();
+
+    boolean contains(String key);
+
+    Map<String, String> row(int position);
+
+    // Null when no row has this key
+    Map<String, String> row(String key);
+
+    // Null when the cell is empty
+    String value(int row, int column);
+
+    default List<Map<String, String>> rows() {
+        List<Map<String, String>> all = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            all.add(row(i));
+        }
+        return all;
+    }
+}
@@ -0,0 +1,70 @@
+package com.yourcompany.yourproject.utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WaitStatistics {
+    private static final Map<String, ConditionStats> stats = new ConcurrentHashMap<>();
+
+    static void record(String condition, long nanos, int polls, boolean satisfied) {
+        ConditionStats conditionStats = stats.computeIfAbsent(condition, c -> new ConditionStats());
+        conditionStats.waits.increment();
+        conditionStats.nanos.add(nanos);
+        conditionStats.maxNanos.accumulate(nanos);
+        conditionStats.polls.add(polls);
+        if (!satisfied) {
+            conditionStats.timeouts.increment();
+        }
+        Instrumentation.record(Instrumentation.WAIT, condition, nanos);
+    }
+
+    public static Map<String, ConditionStats> snapshot() {
+        return new TreeMap<>(stats);
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    public static String summary() {
+        StringBuilder sb = new StringBuilder("Wait statistics:\n");
+        snapshot().forEach((condition, s) -> sb.append(String.format(
+                "  %-70s waits=%d avg=%.1fms max=%.1fms polls/wait=%.1f timeouts=%d%n",
+                condition, s.waits(), s.averageMillis(), s.maxMillis(), s.averagePolls(), s.timeouts())));
+        return sb.toString();
+    }
+
+    public static final class ConditionStats {
+        private final LongAdder waits = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder polls = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        public long waits() {
+            return waits.sum();
+        }
+
+        public long timeouts() {
+            return timeouts.sum();
+        }
+
+        public double averageMillis() {
+            long n = waits.sum();
+            return n == 0 ? 0 : nanos.sum() / (double) n / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double maxMillis() {
+            return maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double averagePolls() {
+            long n = waits.sum();
+            return n == 0 ? 0 : polls.sum() / (double) n;
+        }
+    }
+}
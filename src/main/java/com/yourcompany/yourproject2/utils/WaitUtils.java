@@ -1,15 +1,35 @@
 package com.yourcompany.yourproject.utils;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.By;
 
 import java.time.Duration;
 
 public class WaitUtils {
-    public static void waitForElementVisible(WebDriver driver, By locator, int timeoutSeconds) {
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+    // Waits hold nothing but the driver, so one is built per call rather than kept in a registry
+    // that would have to track driver lifetimes
+    public static AdaptiveWait forDriver(WebDriver driver) {
+        return new AdaptiveWait(driver);
+    }
+
+    public static EventDrivenWait eventsForDriver(WebDriver driver) {
+        return new EventDrivenWait(driver);
+    }
+
+    public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeoutSeconds) {
+        return waitForElementVisible(driver, locator, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    public static WebElement waitForElementVisible(WebDriver driver, By locator, Duration timeout) {
+        if (ConfigReader.snapshot().waitEventDriven()) {
+            return eventsForDriver(driver).waitForVisible(locator, timeout);
+        }
+        return forDriver(driver).until(ExpectedConditions.visibilityOfElementLocated(locator), timeout);
+    }
+
+    public static WebElement waitForElementVisible(WebDriver driver, By locator, Duration timeout, PollingPolicy polling) {
+        return forDriver(driver).until(ExpectedConditions.visibilityOfElementLocated(locator), timeout, polling);
     }
 }
@@ -0,0 +1,218 @@
+package com.yourcompany.yourproject.utils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+// Reads a worksheet with StAX straight from the .xlsx zip; the first row is the header.
+// Only the shared string table is held in memory, since cells refer to it by index.
+// Dates come back as Excel serial numbers ("45000" for 2023-03-15): telling a date from a number
+// needs the number formats in styles.xml, which are not read. Keep dates as text cells.
+class XlsxRowReader implements RowReader {
+    private static final String RELATIONSHIPS_NS =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final XMLInputFactory XML = createFactory();
+
+    @Override
+    public void read(Path file, String part, Predicate<Map<String, String>> visitor) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            String sheet = sheetPath(zip, part);
+            List<String> sharedStrings = sharedStrings(zip);
+            readSheet(zip, sheet, sharedStrings, visitor);
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed workbook " + file, e);
+        }
+    }
+
+    static List<String> sheetNames(Path file) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(file.toFile()); InputStream in = entry(zip, "xl/workbook.xml")) {
+            XMLStreamReader xml = XML.createXMLStreamReader(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(xml.getLocalName())) {
+                    names.add(xml.getAttributeValue(null, "name"));
+                }
+            }
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed workbook " + file, e);
+        }
+        return names;
+    }
+
+    private static String sheetPath(ZipFile zip, String name) throws IOException, XMLStreamException {
+        String relationId = null;
+        String firstRelationId = null;
+        try (InputStream in = entry(zip, "xl/workbook.xml")) {
+            XMLStreamReader xml = XML.createXMLStreamReader(in);
+            while (xml.hasNext() && relationId == null) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(xml.getLocalName())) {
+                    String id = xml.getAttributeValue(RELATIONSHIPS_NS, "id");
+                    if (firstRelationId == null) {
+                        firstRelationId = id;
+                    }
+                    if (name != null && name.equals(xml.getAttributeValue(null, "name"))) {
+                        relationId = id;
+                    }
+                }
+            }
+            xml.close();
+        }
+        if (name == null) {
+            relationId = firstRelationId;
+        }
+        if (relationId == null) {
+            throw new IllegalArgumentException("No sheet '" + name + "' in workbook " + zip.getName());
+        }
+        try (InputStream in = entry(zip, "xl/_rels/workbook.xml.rels")) {
+            XMLStreamReader xml = XML.createXMLStreamReader(in);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT
+                        && relationId.equals(xml.getAttributeValue(null, "Id"))) {
+                    String target = xml.getAttributeValue(null, "Target");
+                    return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Sheet relation " + relationId + " missing in " + zip.getName());
+    }
+
+    private static List<String> sharedStrings(ZipFile zip) throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        if (zip.getEntry("xl/sharedStrings.xml") == null) {
+            return strings;
+        }
+        try (InputStream in = entry(zip, "xl/sharedStrings.xml")) {
+            XMLStreamReader xml = XML.createXMLStreamReader(in);
+            StringBuilder text = new StringBuilder();
+            boolean phonetic = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = xml.getLocalName();
+                    if ("si".equals(element)) {
+                        text.setLength(0);
+                    } else if ("rPh".equals(element)) {
+                        phonetic = true;
+                    } else if ("t".equals(element) && !phonetic) {
+                        text.append(xml.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("si".equals(xml.getLocalName())) {
+                        strings.add(text.toString());
+                    } else if ("rPh".equals(xml.getLocalName())) {
+                        phonetic = false;
+                    }
+                }
+            }
+            xml.close();
+        }
+        return strings;
+    }
+
+    private static void readSheet(ZipFile zip, String sheet, List<String> sharedStrings,
+                                  Predicate<Map<String, String>> visitor) throws IOException, XMLStreamException {
+        try (InputStream in = entry(zip, sheet)) {
+            XMLStreamReader xml = XML.createXMLStreamReader(in);
+            List<String> header = null;
+            Map<Integer, String> cells = new HashMap<>();
+            int column = 0;
+            String type = null;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = xml.getLocalName();
+                    if ("row".equals(element)) {
+                        cells.clear();
+                        column = 0;
+                    } else if ("c".equals(element)) {
+                        String reference = xml.getAttributeValue(null, "r");
+                        column = reference != null ? columnIndex(reference) : column + 1;
+                        type = xml.getAttributeValue(null, "t");
+                    } else if ("v".equals(element)) {
+                        cells.put(column, cellValue(xml.getElementText(), type, sharedStrings));
+                    } else if ("t".equals(element) && "inlineStr".equals(type)) {
+                        cells.merge(column, xml.getElementText(), String::concat);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                    if (header == null) {
+                        header = headerFrom(cells);
+                    } else if (!cells.isEmpty() && !visitor.test(toRow(header, cells))) {
+                        break;
+                    }
+                }
+            }
+            xml.close();
+        }
+    }
+
+    private static String cellValue(String raw, String type, List<String> sharedStrings) {
+        if ("s".equals(type)) {
+            return sharedStrings.get(Integer.parseInt(raw.trim()));
+        }
+        if ("b".equals(type)) {
+            return "1".equals(raw) ? "true" : "false";
+        }
+        // Whole numbers are stored as doubles by some writers; present them as typed in the sheet
+        if (type == null || "n".equals(type)) {
+            return raw.endsWith(".0") ? raw.substring(0, raw.length() - 2) : raw;
+        }
+        return raw;
+    }
+
+    private static List<String> headerFrom(Map<Integer, String> cells) {
+        int width = cells.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+        List<String> header = new ArrayList<>(width);
+        for (int i = 0; i < width; i++) {
+            header.add(cells.get(i));
+        }
+        return header;
+    }
+
+    private static Map<String, String> toRow(List<String> header, Map<Integer, String> cells) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = cells.get(i);
+            if (header.get(i) != null && value != null) {
+                row.put(header.get(i), value);
+            }
+        }
+        return row;
+    }
+
+    // "C12" -> 2
+    private static int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static InputStream entry(ZipFile zip, String name) throws IOException {
+        ZipEntry entry = zip.getEntry(name);
+        if (entry == null) {
+            throw new IOException("Missing " + name + " in workbook " + zip.getName());
+        }
+        return zip.getInputStream(entry);
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
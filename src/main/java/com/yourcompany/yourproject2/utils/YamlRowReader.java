@@ -0,0 +1,135 @@
+package com.yourcompany.yourproject.utils;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Same document shapes as JsonRowReader, read from the SnakeYAML event stream so no node tree is built
+class YamlRowReader implements RowReader {
+    @Override
+    public void read(Path file, String part, Predicate<Map<String, String>> visitor) throws IOException {
+        String keyColumn = ConfigReader.snapshot().getString("testdata.key.column", "id");
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Iterator<Event> events = new Yaml().parse(reader).iterator();
+            Event root = firstNode(events);
+            if (root instanceof SequenceStartEvent) {
+                readSequence(events, visitor);
+                return;
+            }
+            if (!(root instanceof MappingStartEvent)) {
+                return;
+            }
+            Event event;
+            while (!((event = events.next()).is(Event.ID.MappingEnd))) {
+                String name = scalar(event);
+                Event value = events.next();
+                if (part != null && !part.equals(name)
+                        || !(value instanceof SequenceStartEvent) && !(value instanceof MappingStartEvent)) {
+                    skip(events, value);
+                } else if (value instanceof SequenceStartEvent) {
+                    readSequence(events, visitor);
+                    return;
+                } else {
+                    Map<String, String> row = new LinkedHashMap<>();
+                    readMapping(events, "", row);
+                    row.putIfAbsent(keyColumn, name);
+                    if (!visitor.test(row)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static Event firstNode(Iterator<Event> events) {
+        while (events.hasNext()) {
+            Event event = events.next();
+            if (event instanceof ScalarEvent || event instanceof MappingStartEvent
+                    || event instanceof SequenceStartEvent) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    private static void readSequence(Iterator<Event> events, Predicate<Map<String, String>> visitor) {
+        Event event;
+        while (!((event = events.next()).is(Event.ID.SequenceEnd))) {
+            if (!(event instanceof MappingStartEvent)) {
+                skip(events, event);
+                continue;
+            }
+            Map<String, String> row = new LinkedHashMap<>();
+            readMapping(events, "", row);
+            if (!visitor.test(row)) {
+                return;
+            }
+        }
+    }
+
+    private static void readMapping(Iterator<Event> events, String prefix, Map<String, String> row) {
+        Event event;
+        while (!((event = events.next()).is(Event.ID.MappingEnd))) {
+            String name = prefix + scalar(event);
+            Event value = events.next();
+            if (value instanceof ScalarEvent) {
+                row.put(name, ((ScalarEvent) value).getValue());
+            } else if (value instanceof MappingStartEvent) {
+                readMapping(events, name + ".", row);
+            } else if (value instanceof SequenceStartEvent) {
+                row.put(name, readList(events));
+            } else {
+                skip(events, value);
+            }
+        }
+    }
+
+    // Scalar lists become comma separated values; nested structures inside lists are skipped
+    private static String readList(Iterator<Event> events) {
+        StringBuilder values = new StringBuilder();
+        Event event;
+        while (!((event = events.next()).is(Event.ID.SequenceEnd))) {
+            if (!(event instanceof ScalarEvent)) {
+                skip(events, event);
+                continue;
+            }
+            if (values.length() > 0) {
+                values.append(',');
+            }
+            values.append(((ScalarEvent) event).getValue());
+        }
+        return values.toString();
+    }
+
+    private static String scalar(Event event) {
+        if (!(event instanceof ScalarEvent)) {
+            throw new IllegalArgumentException("Test data keys must be scalars: " + event);
+        }
+        return ((ScalarEvent) event).getValue();
+    }
+
+    // Consumes the rest of the node that started with the given event
+    private static void skip(Iterator<Event> events, Event start) {
+        int depth = start instanceof MappingStartEvent || start instanceof SequenceStartEvent ? 1 : 0;
+        while (depth > 0) {
+            Event event = events.next();
+            if (event instanceof MappingStartEvent || event instanceof SequenceStartEvent) {
+                depth++;
+            } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                depth--;
+            }
+        }
+    }
+}
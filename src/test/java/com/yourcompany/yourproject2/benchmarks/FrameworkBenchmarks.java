@@ -0,0 +1,100 @@
+package com.yourcompany.yourproject.benchmarks;
+
+import com.yourcompany.yourproject.base.PageElements;
+import com.yourcompany.yourproject.components.HeaderComponent;
+import com.yourcompany.yourproject.pages.LoginPage;
+import com.yourcompany.yourproject.support.StubWebDriver;
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.WaitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Framework overhead against StubWebDriver, so the numbers exclude any browser.
+// Run with: mvn -Pbenchmarks verify [-Djmh.args="FrameworkBenchmarks.configReaderGet -prof gc"]
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameworkBenchmarks {
+    private static final By USERNAME = By.id("username");
+
+    private StubWebDriver driver;
+
+    @Setup
+    public void setUp() {
+        driver = new StubWebDriver();
+    }
+
+    @Benchmark
+    public Object pageFactoryInitElements() {
+        SamplePage page = new SamplePage();
+        PageFactory.initElements(driver, page);
+        return page;
+    }
+
+    @Benchmark
+    public Object pageElementsInitElements() {
+        SamplePage page = new SamplePage();
+        PageElements.initElements(driver, page);
+        return page;
+    }
+
+    @Benchmark
+    public Object basePageConstruction() {
+        return new LoginPage(driver);
+    }
+
+    @Benchmark
+    public Object baseComponentConstruction() {
+        return new HeaderComponent(driver);
+    }
+
+    @Benchmark
+    public String configReaderGet() {
+        return ConfigReader.get("browser");
+    }
+
+    @Benchmark
+    public int configSnapshotTypedRead() {
+        return ConfigReader.snapshot().parallelThreads();
+    }
+
+    @Benchmark
+    public WebElement webDriverWaitSetup() {
+        return new WebDriverWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.visibilityOfElementLocated(USERNAME));
+    }
+
+    @Benchmark
+    public WebElement waitUtilsVisible() {
+        return WaitUtils.waitForElementVisible(driver, USERNAME, Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public Object locatorRemoteParameters() {
+        return ((By.Remotable) By.id("username")).getRemoteParameters();
+    }
+
+    @Benchmark
+    public WebElement locatorFindElement() {
+        return driver.findElement(USERNAME);
+    }
+}
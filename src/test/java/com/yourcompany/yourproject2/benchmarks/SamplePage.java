@@ -0,0 +1,21 @@
+package com.yourcompany.yourproject.benchmarks;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.CacheLookup;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.List;
+
+// A page object with a typical mix of locators, used to time page construction
+public class SamplePage {
+    @FindBy(id = "username") WebElement username;
+    @FindBy(id = "password") WebElement password;
+    @FindBy(id = "login") WebElement loginButton;
+    @FindBy(css = "header .logo") WebElement logo;
+    @FindBy(css = ".user-profile") WebElement profile;
+    @FindBy(css = "footer") WebElement footer;
+    @FindBy(css = "nav.sidebar") WebElement sidebar;
+    @FindBy(xpath = "//h1[contains(@class,'title')]") WebElement title;
+    @CacheLookup @FindBy(name = "remember") WebElement rememberMe;
+    @FindBy(css = "nav.sidebar a") List<WebElement> navLinks;
+}
@@ -1,17 +1,68 @@
 package com.yourcompany.yourproject.hooks;
 
 import com.yourcompany.yourproject.base.DriverManager;
+import com.yourcompany.yourproject.support.StubWebDriver;
+import com.yourcompany.yourproject.utils.AsyncTasks;
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.EvidencePipeline;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.logging.Logger;
 
 public class Hooks {
+    private static final Logger LOG = Logger.getLogger(Hooks.class.getName());
+    private static final String FRESH_BROWSER_TAG = "@freshBrowser";
+
+    @BeforeAll
+    public static void beforeAll() {
+        if (ConfigReader.snapshot().driverStub()) {
+            Duration latency = ConfigReader.snapshot().driverStubLatency();
+            DriverManager.setDriverFactory(browser -> new StubWebDriver(latency));
+        }
+    }
+
     @Before
-    public void setUp() {
-        // Setup before scenario
+    public void setUp(Scenario scenario) {
+        EvidencePipeline.startScenario(scenario.getName());
+        DriverManager.routeTo(ConfigReader.snapshot().routeFor(scenario.getSourceTagNames()));
+        if (scenario.getSourceTagNames().contains(FRESH_BROWSER_TAG)) {
+            DriverManager.requireFreshSession();
+        }
+    }
+
+    @AfterStep
+    public void afterStep(Scenario scenario) {
+        WebDriver driver = DriverManager.currentDriver();
+        if (driver != null) {
+            EvidencePipeline.afterStep(driver, scenario.isFailed());
+        }
     }
 
     @After
-    public void tearDown() {
-        DriverManager.quitDriver();
+    public void tearDown(Scenario scenario) {
+        // Captures finish in the background; the @AfterAll drain waits for them
+        EvidencePipeline.finishScenario();
+        if (DriverManager.isSessionReuseEnabled()
+                && !scenario.getSourceTagNames().contains(FRESH_BROWSER_TAG)) {
+            DriverManager.recycleDriver();
+        } else {
+            DriverManager.quitDriver();
+        }
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        // Evidence and log writes run off the scenario threads; let them land before reports are built
+        if (!AsyncTasks.drain(ConfigReader.snapshot().asyncDrainTimeout())) {
+            LOG.warning("Background tasks still running: " + AsyncTasks.inFlight());
+        }
+        EvidencePipeline.checkReports();
     }
 }
@@ -0,0 +1,31 @@
+package com.yourcompany.yourproject.runner;
+
+import com.yourcompany.yourproject.base.DriverManager;
+import com.yourcompany.yourproject.base.DriverStartupMetrics;
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.ConfigSnapshot;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.Reporter;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+public class DriverWarmupListener implements IAlterSuiteListener, ISuiteListener {
+
+    // Runs before TestNG instantiates TestRunner, so browsers boot while features are parsed
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigSnapshot config = ConfigReader.snapshot();
+        int sessions = Math.min(config.driverWarmupSessions(), ParallelSuiteListener.threadCount());
+        if (sessions > 0) {
+            DriverManager.warmUp(config.browser(), sessions);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Reporter.log(DriverStartupMetrics.summary());
+    }
+}
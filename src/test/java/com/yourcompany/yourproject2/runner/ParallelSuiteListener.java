@@ -0,0 +1,23 @@
+package com.yourcompany.yourproject.runner;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.ConfigSnapshot;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+public class ParallelSuiteListener implements IAlterSuiteListener {
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = threadCount();
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(threads);
+        }
+    }
+
+    public static int threadCount() {
+        ConfigSnapshot config = ConfigReader.snapshot();
+        return config.parallelEnabled() ? config.parallelThreads() : 1;
+    }
+}
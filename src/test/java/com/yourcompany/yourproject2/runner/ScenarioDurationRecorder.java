@@ -0,0 +1,41 @@
+package com.yourcompany.yourproject.runner;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ScenarioDurationRecorder implements ConcurrentEventListener {
+    private final Map<UUID, Instant> started = new ConcurrentHashMap<>();
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class,
+                event -> started.put(event.getTestCase().getId(), event.getInstant()));
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> {
+            // A shard only sees part of the suite; ShardReportMerger records the whole run instead
+            if (ShardPlanner.shardCount() < 2) {
+                ScenarioDurations.merge(durations);
+            }
+        });
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        Instant start = started.remove(testCase.getId());
+        if (start != null) {
+            long millis = Duration.between(start, event.getInstant()).toMillis();
+            durations.put(ScenarioDurations.key(testCase.getUri(), testCase.getLocation().getLine()), millis);
+        }
+    }
+}
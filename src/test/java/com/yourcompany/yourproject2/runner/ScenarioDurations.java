@@ -0,0 +1,77 @@
+package com.yourcompany.yourproject.runner;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ScenarioDurations {
+    private static final Logger LOG = Logger.getLogger(ScenarioDurations.class.getName());
+    private static final Path HISTORY_FILE = Paths.get(ConfigReader.snapshot().parallelDurationsFile());
+    private static final URI WORKING_DIRECTORY = Paths.get("").toAbsolutePath().toUri();
+
+    // Relative to the checkout, so a history recorded on one agent matches on another
+    public static String key(URI uri, int line) {
+        return WORKING_DIRECTORY.relativize(uri) + ":" + line;
+    }
+
+    public static Map<String, Long> load() {
+        return load(HISTORY_FILE);
+    }
+
+    public static Map<String, Long> load(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot read scenario durations from " + file, e);
+            return durations;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                durations.put(name, Long.parseLong(properties.getProperty(name)));
+            } catch (NumberFormatException ignored) {
+                // Skip entries written by hand or by an older format
+            }
+        }
+        return durations;
+    }
+
+    public static void merge(Map<String, Long> latest) {
+        merge(HISTORY_FILE, latest);
+    }
+
+    public static synchronized void merge(Path file, Map<String, Long> latest) {
+        if (latest.isEmpty()) {
+            return;
+        }
+        Map<String, Long> durations = load(file);
+        durations.putAll(latest);
+        Properties properties = new Properties();
+        durations.forEach((name, millis) -> properties.setProperty(name, Long.toString(millis)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Scenario durations in milliseconds");
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Cannot write scenario durations to " + file, e);
+        }
+    }
+}
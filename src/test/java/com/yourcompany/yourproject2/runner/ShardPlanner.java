@@ -0,0 +1,78 @@
+package com.yourcompany.yourproject.runner;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+// Splits work units (scenarios or whole features) into shard.count shards with greedy longest-first
+// bin packing on recorded durations. The plan depends only on the unit keys and shard.history.file,
+// a pinned history that agents read but never write during a sharded run, so every agent computes
+// the same split and runs only its own shard.index (0-based):
+//   mvn test -Dshard.count=4 -Dshard.index=2
+// ShardReportMerger refreshes the pinned file from the merged results once every shard is done.
+public class ShardPlanner {
+    public static int shardCount() {
+        return Math.max(1, ConfigReader.snapshot().getInt("shard.count", 1));
+    }
+
+    public static int shardIndex() {
+        int index = ConfigReader.snapshot().getInt("shard.index", 0);
+        if (index < 0 || index >= shardCount()) {
+            throw new IllegalArgumentException("shard.index must be in [0, " + shardCount() + "): " + index);
+        }
+        return index;
+    }
+
+    public static Path historyFile() {
+        return Paths.get(ConfigReader.snapshot().getString("shard.history.file",
+                "src/test/resources2/shard-durations.properties"));
+    }
+
+    // Whole features keep their scenarios on one agent; scenarios balance better
+    public static boolean byFeature() {
+        return "feature".equalsIgnoreCase(ConfigReader.snapshot().getString("shard.by", "scenario"));
+    }
+
+    // costs maps unit key to its estimated duration in ms, or null when it has never run
+    public static List<List<String>> plan(Map<String, Long> costs, int shards) {
+        Map<String, Long> sorted = new TreeMap<>(costs);
+        long fallback = median(sorted);
+        List<String> units = new ArrayList<>(sorted.keySet());
+        units.sort(Comparator.comparingLong((String unit) -> cost(sorted, unit, fallback)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        List<List<String>> plan = new ArrayList<>(shards);
+        // Least loaded shard first; ties go to the lowest index so the plan is deterministic
+        PriorityQueue<long[]> loads = new PriorityQueue<>(
+                Comparator.<long[]>comparingLong(load -> load[0]).thenComparingLong(load -> load[1]));
+        for (int i = 0; i < shards; i++) {
+            plan.add(new ArrayList<>());
+            loads.add(new long[] {0, i});
+        }
+        for (String unit : units) {
+            long[] lightest = loads.poll();
+            plan.get((int) lightest[1]).add(unit);
+            lightest[0] += cost(sorted, unit, fallback);
+            loads.add(lightest);
+        }
+        return plan;
+    }
+
+    private static long cost(Map<String, Long> costs, String unit, long fallback) {
+        Long cost = costs.get(unit);
+        return cost == null ? fallback : cost;
+    }
+
+    // Units without history are assumed typical rather than free or huge
+    private static long median(Map<String, Long> costs) {
+        long[] known = costs.values().stream().filter(cost -> cost != null)
+                .mapToLong(Long::longValue).sorted().toArray();
+        return known.length == 0 ? 1 : known[known.length / 2];
+    }
+}
@@ -0,0 +1,62 @@
+package com.yourcompany.yourproject.runner;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class ShardPlannerTest {
+
+    @Test
+    public void longestUnitsGoFirstToTheLightestShard() {
+        Map<String, Long> costs = Map.of("a", 50L, "b", 40L, "c", 30L, "d", 20L, "e", 10L);
+
+        // a->0, b->1, c->1 (40 < 50), d->0 (50 < 70), e->0 (70 = 70, lower index wins)
+        assertEquals(ShardPlanner.plan(costs, 2), List.of(List.of("a", "d", "e"), List.of("b", "c")));
+    }
+
+    @Test
+    public void unitsWithoutHistoryCostTheMedian() {
+        Map<String, Long> costs = new HashMap<>();
+        costs.put("known-long", 90L);
+        costs.put("known-mid", 30L);
+        costs.put("known-short", 10L);
+        costs.put("new", null);
+
+        // "new" is costed at 30 and ties with known-mid, so the names decide the order
+        assertEquals(ShardPlanner.plan(costs, 2),
+                List.of(List.of("known-long"), List.of("known-mid", "new", "known-short")));
+    }
+
+    @Test
+    public void everyUnitIsPlannedExactlyOnceAndIdenticallyEachTime() {
+        Map<String, Long> costs = new HashMap<>();
+        for (int i = 0; i < 25; i++) {
+            costs.put("unit-" + i, (long) (i * 37 % 11));
+        }
+
+        List<List<String>> plan = ShardPlanner.plan(costs, 4);
+
+        List<String> planned = new ArrayList<>();
+        plan.forEach(planned::addAll);
+        assertEquals(planned.size(), costs.size());
+        assertEquals(Map.copyOf(countEach(planned)).keySet(), costs.keySet());
+        assertEquals(ShardPlanner.plan(new HashMap<>(costs), 4), plan);
+    }
+
+    @Test
+    public void extraShardsStayEmpty() {
+        assertEquals(ShardPlanner.plan(Map.of("only", 5L), 3), List.of(List.of("only"), List.of(), List.of()));
+    }
+
+    private static Map<String, Integer> countEach(List<String> units) {
+        Map<String, Integer> counts = new HashMap<>();
+        units.forEach(unit -> counts.merge(unit, 1, Integer::sum));
+        counts.values().forEach(count -> assertEquals((int) count, 1));
+        return counts;
+    }
+}
@@ -0,0 +1,115 @@
+package com.yourcompany.yourproject.runner;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+// Merges the shard-*.json fragments collected from every agent into merged-report.json and folds
+// their durations into shard.history.file, so the next split is planned on the whole suite.
+//   java ShardReportMerger target/shard-results
+// Fails when a shard is missing or the merged total differs from the suite's scenario count, and
+// exits with 1 when any scenario did not pass.
+public class ShardReportMerger {
+    private static final Logger LOG = Logger.getLogger(ShardReportMerger.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "target/shard-results");
+        int status = merge(directory, ShardPlanner.historyFile());
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    // Returns the exit status: 0 when every scenario passed, 1 otherwise
+    static int merge(Path directory, Path historyFile) throws IOException {
+        List<Path> fragments;
+        try (Stream<Path> stream = Files.list(directory)) {
+            fragments = stream.filter(f -> f.getFileName().toString().matches("shard-\\d+-of-\\d+\\.json"))
+                    .sorted().toList();
+        }
+        if (fragments.isEmpty()) {
+            throw new IllegalStateException("No shard fragments in " + directory);
+        }
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        List<Map<String, Object>> shards = new ArrayList<>();
+        Set<Object> shardCounts = new HashSet<>();
+        Set<Object> suiteSizes = new HashSet<>();
+        for (Path fragment : fragments) {
+            Map<String, Object> content = ShardResultRecorder.readFragment(fragment);
+            shardCounts.add(content.get("shards"));
+            suiteSizes.add(content.get("suiteScenarios"));
+            List<Map<String, Object>> rows = ShardResultRecorder.rows(content);
+            scenarios.addAll(rows);
+            Map<String, Object> shard = new LinkedHashMap<>();
+            shard.put("file", fragment.getFileName().toString());
+            shard.put("scenarios", rows.size());
+            shard.put("busyMillis", rows.stream().mapToLong(row -> ((Number) row.get("millis")).longValue()).sum());
+            shards.add(shard);
+        }
+        scenarios.sort(Comparator.comparing(row -> String.valueOf(row.get("key"))));
+        long expected = expectedTotal(fragments.size(), shardCounts, suiteSizes);
+        long distinct = scenarios.stream().map(row -> row.get("key")).distinct().count();
+        if (scenarios.size() != expected || distinct != expected) {
+            throw new IllegalStateException("Merged " + scenarios.size() + " results (" + distinct
+                    + " distinct scenarios) from " + fragments.size() + " shards, but the suite has "
+                    + expected + " scenarios; the shards did not plan the same split");
+        }
+
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        Map<String, Long> durations = new HashMap<>();
+        for (Map<String, Object> row : scenarios) {
+            statuses.merge(String.valueOf(row.get("status")), 1L, Long::sum);
+            durations.put(String.valueOf(row.get("key")), ((Number) row.get("millis")).longValue());
+        }
+        ScenarioDurations.merge(historyFile, durations);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("total", scenarios.size());
+        report.put("expected", expected);
+        report.put("statuses", statuses);
+        report.put("shards", shards);
+        report.put("scenarios", scenarios);
+        Files.writeString(directory.resolve("merged-report.json"), new Json().toJson(report), StandardCharsets.UTF_8);
+
+        long failed = scenarios.size() - statuses.getOrDefault("PASSED", 0L);
+        StringBuilder summary = new StringBuilder("Merged " + fragments.size() + " shard fragments: "
+                + scenarios.size() + " scenarios " + statuses);
+        for (Map<String, Object> shard : shards) {
+            summary.append(String.format("%n  %-24s %4d scenarios %8d ms", shard.get("file"),
+                    shard.get("scenarios"), shard.get("busyMillis")));
+        }
+        LOG.info(summary.toString());
+        return failed > 0 ? 1 : 0;
+    }
+
+    // Every fragment must come from the same shard.count and suite, and every shard must be present
+    private static long expectedTotal(int fragments, Set<Object> shardCounts, Set<Object> suiteSizes) {
+        if (shardCounts.size() != 1 || suiteSizes.size() != 1) {
+            throw new IllegalStateException("Shard fragments disagree on shard count " + shardCounts
+                    + " or suite size " + suiteSizes);
+        }
+        Object shards = shardCounts.iterator().next();
+        Object suite = suiteSizes.iterator().next();
+        if (!(shards instanceof Number) || ((Number) shards).intValue() != fragments) {
+            throw new IllegalStateException("Found " + fragments + " shard fragments for shard count " + shards);
+        }
+        if (!(suite instanceof Number) || ((Number) suite).longValue() < 0) {
+            throw new IllegalStateException("Shard fragments do not record the suite size");
+        }
+        return ((Number) suite).longValue();
+    }
+}
@@ -0,0 +1,111 @@
+package com.yourcompany.yourproject.runner;
+
+import org.openqa.selenium.json.Json;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+
+public class ShardReportMergerTest {
+    private Path directory;
+    private Path history;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("shard-results");
+        history = directory.resolve("history/shard-durations.properties");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void completeShardsMergeIntoOneReportAndHistory() throws IOException {
+        fragment(0, 2, 3, List.of(scenario("a.feature:3", "PASSED", 120), scenario("a.feature:9", "PASSED", 80)));
+        fragment(1, 2, 3, List.of(scenario("b.feature:4", "PASSED", 200)));
+
+        assertEquals(ShardReportMerger.merge(directory, history), 0);
+
+        Map<String, Object> report = new Json().toType(
+                Files.readString(directory.resolve("merged-report.json")), Json.MAP_TYPE);
+        assertEquals(((Number) report.get("total")).intValue(), 3);
+        assertEquals(report.get("statuses"), Map.of("PASSED", 3L));
+        assertEquals(ScenarioDurations.load(history), Map.of("a.feature:3", 120L, "a.feature:9", 80L, "b.feature:4", 200L));
+    }
+
+    @Test
+    public void anyScenarioThatDidNotPassFailsTheMerge() throws IOException {
+        fragment(0, 2, 2, List.of(scenario("a.feature:3", "PASSED", 10)));
+        fragment(1, 2, 2, List.of(scenario("b.feature:4", "FAILED", 10)));
+
+        assertEquals(ShardReportMerger.merge(directory, history), 1);
+    }
+
+    @Test
+    public void missingShardIsRejected() throws IOException {
+        fragment(0, 2, 2, List.of(scenario("a.feature:3", "PASSED", 10)));
+
+        assertThrows(IllegalStateException.class, () -> ShardReportMerger.merge(directory, history));
+        assertFalse(Files.exists(history));
+    }
+
+    @Test
+    public void scenarioRunOnTwoShardsIsRejected() throws IOException {
+        fragment(0, 2, 2, List.of(scenario("a.feature:3", "PASSED", 10)));
+        fragment(1, 2, 2, List.of(scenario("a.feature:3", "PASSED", 10)));
+
+        assertThrows(IllegalStateException.class, () -> ShardReportMerger.merge(directory, history));
+    }
+
+    @Test
+    public void fragmentsFromDifferentSplitsAreRejected() throws IOException {
+        fragment(0, 2, 2, List.of(scenario("a.feature:3", "PASSED", 10)));
+        fragment(1, 2, 3, List.of(scenario("b.feature:4", "PASSED", 10)));
+
+        assertThrows(IllegalStateException.class, () -> ShardReportMerger.merge(directory, history));
+    }
+
+    @Test
+    public void emptyDirectoryIsRejected() {
+        assertThrows(IllegalStateException.class, () -> ShardReportMerger.merge(directory, history));
+    }
+
+    private void fragment(int shard, int shards, int suiteScenarios, List<Map<String, Object>> scenarios)
+            throws IOException {
+        Map<String, Object> fragment = new LinkedHashMap<>();
+        fragment.put("shard", shard);
+        fragment.put("shards", shards);
+        fragment.put("suiteScenarios", suiteScenarios);
+        fragment.put("scenarios", scenarios);
+        Files.writeString(directory.resolve("shard-" + shard + "-of-" + shards + ".json"),
+                new Json().toJson(fragment), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, Object> scenario(String key, String status, long millis) {
+        Map<String, Object> scenario = new LinkedHashMap<>();
+        scenario.put("key", key);
+        scenario.put("name", key);
+        scenario.put("status", status);
+        scenario.put("millis", millis);
+        return scenario;
+    }
+}
@@ -0,0 +1,103 @@
+package com.yourcompany.yourproject.runner;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Writes this shard's results to <shard.results.dir>/shard-<index>-of-<count>.json;
+// ShardReportMerger folds the fragments from every agent into one report. Writes nothing
+// when sharding is off (shard.count=1).
+public class ShardResultRecorder implements ConcurrentEventListener {
+    private static volatile int suiteScenarios = -1;
+
+    private final ConcurrentLinkedQueue<Map<String, Object>> scenarios = new ConcurrentLinkedQueue<>();
+    private volatile Instant started = Instant.now();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> started = event.getInstant());
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> write(event.getInstant()));
+    }
+
+    // Scenarios in the whole suite before sharding, so the merger can tell when a shard went missing
+    static void suiteSize(int scenarios) {
+        suiteScenarios = scenarios;
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        Result result = event.getResult();
+        Map<String, Object> scenario = new LinkedHashMap<>();
+        scenario.put("key", ScenarioDurations.key(testCase.getUri(), testCase.getLocation().getLine()));
+        scenario.put("name", testCase.getName());
+        scenario.put("status", result.getStatus().name());
+        scenario.put("millis", result.getDuration().toMillis());
+        if (result.getError() != null) {
+            scenario.put("error", String.valueOf(result.getError().getMessage()));
+        }
+        scenarios.add(scenario);
+    }
+
+    private void write(Instant finished) {
+        int count = ShardPlanner.shardCount();
+        if (count == 1) {
+            return;
+        }
+        int index = ShardPlanner.shardIndex();
+        Map<String, Object> fragment = new LinkedHashMap<>();
+        fragment.put("shard", index);
+        fragment.put("shards", count);
+        fragment.put("suiteScenarios", suiteScenarios);
+        fragment.put("startedAt", started.toString());
+        fragment.put("wallMillis", Duration.between(started, finished).toMillis());
+        fragment.put("scenarios", new ArrayList<>(scenarios));
+        Path directory = Paths.get(ConfigReader.snapshot().getString("shard.results.dir", "target/shard-results"));
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("shard-" + index + "-of-" + count + ".json"),
+                    new Json().toJson(fragment), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write shard results to " + directory, e);
+        }
+    }
+
+    static Map<String, Object> readFragment(Path fragment) {
+        try {
+            return new Json().toType(Files.readString(fragment), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read shard results " + fragment, e);
+        }
+    }
+
+    static List<Map<String, Object>> rows(Map<String, Object> fragment) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object scenario : (List<?>) fragment.getOrDefault("scenarios", List.of())) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> row = new LinkedHashMap<>((Map<String, Object>) scenario);
+            row.put("shard", fragment.get("shard"));
+            rows.add(row);
+        }
+        return rows;
+    }
+}
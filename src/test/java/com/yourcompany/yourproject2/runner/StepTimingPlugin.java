@@ -0,0 +1,33 @@
+package com.yourcompany.yourproject.runner;
+
+import com.yourcompany.yourproject.utils.ConfigReader;
+import com.yourcompany.yourproject.utils.Instrumentation;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+import java.nio.file.Paths;
+
+public class StepTimingPlugin implements ConcurrentEventListener {
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!Instrumentation.isEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> Instrumentation.clearPage());
+        publisher.registerHandlerFor(TestRunFinished.class, event -> Instrumentation.export(
+                Paths.get(ConfigReader.snapshot().getString("instrumentation.output.dir", "target"))));
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            Instrumentation.record(Instrumentation.STEP, step.getStep().getKeyword() + step.getStep().getText(),
+                    event.getResult().getDuration().toNanos());
+        }
+    }
+}
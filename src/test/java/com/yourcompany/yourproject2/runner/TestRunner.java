@@ -2,11 +2,77 @@ package com.yourcompany.yourproject.runner;
 
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.testng.annotations.DataProvider;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @CucumberOptions(
         features = "src/test/resources/features",
-        glue = "com.yourcompany.yourproject.stepdefs",
-        plugin = {"pretty", "html:target/cucumber-reports.html"},
+        glue = {"com.yourcompany.yourproject.stepdefs", "com.yourcompany.yourproject.hooks"},
+        plugin = {"pretty", "html:target/cucumber-reports.html",
+                "com.yourcompany.yourproject.runner.ScenarioDurationRecorder",
+                "com.yourcompany.yourproject.runner.StepTimingPlugin",
+                "com.yourcompany.yourproject.runner.ShardResultRecorder"},
         monochrome = true
 )
-public class TestRunner extends AbstractTestNGCucumberTests { }
+public class TestRunner extends AbstractTestNGCucumberTests {
+
+    // Keeps only this JVM's shard, then hands out the longest scenarios first so the slowest
+    // one never starts last
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        Map<String, Long> durations = ShardPlanner.shardCount() > 1
+                ? ScenarioDurations.load(ShardPlanner.historyFile())
+                : ScenarioDurations.load();
+        Object[][] scenarios = shard(super.scenarios(), durations);
+        if (durations.isEmpty()) {
+            return scenarios;
+        }
+        Arrays.sort(scenarios, Comparator.comparingLong((Object[] row) -> {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            return durations.getOrDefault(ScenarioDurations.key(pickle.getUri(), pickle.getLine()), Long.MAX_VALUE);
+        }).reversed());
+        return scenarios;
+    }
+
+    private static Object[][] shard(Object[][] scenarios, Map<String, Long> durations) {
+        int shards = ShardPlanner.shardCount();
+        if (shards < 2) {
+            return scenarios;
+        }
+        ShardResultRecorder.suiteSize(scenarios.length);
+        boolean byFeature = ShardPlanner.byFeature();
+        Map<String, Long> costs = new HashMap<>();
+        for (Object[] row : scenarios) {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            Long millis = durations.get(ScenarioDurations.key(pickle.getUri(), pickle.getLine()));
+            String unit = unit(pickle, byFeature);
+            if (costs.containsKey(unit)) {
+                // A feature with any unrecorded scenario is estimated as a whole
+                Long total = costs.get(unit);
+                costs.put(unit, total == null || millis == null ? null : total + millis);
+            } else {
+                costs.put(unit, millis);
+            }
+        }
+        List<List<String>> plan = ShardPlanner.plan(costs, shards);
+        int index = ShardPlanner.shardIndex();
+        Set<String> mine = new HashSet<>(plan.get(index));
+        return Arrays.stream(scenarios)
+                .filter(row -> mine.contains(unit(((PickleWrapper) row[0]).getPickle(), byFeature)))
+                .toArray(Object[][]::new);
+    }
+
+    private static String unit(Pickle pickle, boolean byFeature) {
+        return byFeature ? pickle.getUri().toString() : ScenarioDurations.key(pickle.getUri(), pickle.getLine());
+    }
+}
@@ -3,9 +3,13 @@ package com.yourcompany.yourproject.stepdefs;
 import com.yourcompany.yourproject.base.DriverManager;
 import com.yourcompany.yourproject.enums.BrowserType;
 import com.yourcompany.yourproject.pages.LoginPage;
+import com.yourcompany.yourproject.support.FixtureServer;
+import com.yourcompany.yourproject.utils.TestData;
 import io.cucumber.java.en.*;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Map;
+
 public class LoginSteps {
     WebDriver driver;
     LoginPage loginPage;
@@ -13,13 +17,14 @@ public class LoginSteps {
     @Given("I am on the login page")
     public void i_am_on_the_login_page() {
         driver = DriverManager.getDriver(BrowserType.CHROME);
-        driver.get("https://example.com/login");
         loginPage = new LoginPage(driver);
+        loginPage.open(FixtureServer.baseUrl() + "/login");
     }
 
     @When("I enter valid credentials")
     public void i_enter_valid_credentials() {
-        loginPage.login("admin", "admin123");
+        Map<String, String> user = TestData.row("users.yaml", "admin");
+        loginPage.login(user.get("username"), user.get("password"));
     }
 
     @Then("I should be redirected to the dashboard")
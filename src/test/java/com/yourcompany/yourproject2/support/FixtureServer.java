@@ -0,0 +1,99 @@
+package com.yourcompany.yourproject.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yourcompany.yourproject.utils.ConfigReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+// Serves the login, home and dashboard fixtures from the fixtures directory on a loopback port
+public class FixtureServer {
+    private static final Path FIXTURE_DIR = Paths.get(ConfigReader.snapshot().fixturesDir());
+    private static final Map<String, String> ROUTES = Map.of(
+            "/", "home.html",
+            "/home", "home.html",
+            "/login", "login.html",
+            "/dashboard", "dashboard.html");
+
+    private static FixtureServer instance;
+
+    private final HttpServer server;
+    private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+
+    private FixtureServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    public static synchronized FixtureServer start() {
+        if (instance == null) {
+            try {
+                instance = new FixtureServer(ConfigReader.snapshot().fixturesPort());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start fixture server", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(FixtureServer::stop));
+        }
+        return instance;
+    }
+
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance = null;
+        }
+    }
+
+    // Fixture server URL when fixtures are enabled, otherwise the configured site
+    public static String baseUrl() {
+        if (ConfigReader.snapshot().fixturesEnabled()) {
+            return "http://localhost:" + start().server.getAddress().getPort();
+        }
+        return ConfigReader.snapshot().url();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // Drain the request so the connection can be reused
+            try (InputStream request = exchange.getRequestBody()) {
+                request.transferTo(OutputStream.nullOutputStream());
+            }
+            String fixture = ROUTES.get(exchange.getRequestURI().getPath());
+            if (fixture == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = pages.computeIfAbsent(fixture, this::read);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] read(String fixture) {
+        try {
+            return Files.readAllBytes(FIXTURE_DIR.resolve(fixture));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing fixture " + fixture, e);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.yourcompany.yourproject.support;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+// In-memory WebDriver: every locator resolves to one element per By, and nothing touches the network.
+// Each command costs the configured latency, standing in for the WebDriver HTTP round trip.
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+    private final Map<By, StubWebElement> elements = new ConcurrentHashMap<>();
+    private final Map<String, Cookie> cookies = new ConcurrentHashMap<>();
+    private final AtomicLong commands = new AtomicLong();
+    private final long latencyNanos;
+    private final StubOptions options = new StubOptions();
+    private volatile String currentUrl = "about:blank";
+    private volatile Duration scriptTimeout = Duration.ofSeconds(30);
+    private volatile Duration pageLoadTimeout = Duration.ofSeconds(300);
+    private volatile Duration implicitWait = Duration.ZERO;
+    private volatile Function<String, Object> scripts = StubWebDriver::defaultScriptResult;
+
+    public StubWebDriver() {
+        this(Duration.ZERO);
+    }
+
+    public StubWebDriver(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    public long commandCount() {
+        return commands.get();
+    }
+
+    public StubWebElement element(By by) {
+        return elements.computeIfAbsent(by, locator -> new StubWebElement(this, locator));
+    }
+
+    // Answers executeScript; by default only readiness checks return true, everything else null
+    public void setScriptResults(Function<String, Object> scripts) {
+        this.scripts = scripts;
+    }
+
+    private static Object defaultScriptResult(String script) {
+        return script.contains("document.readyState") ? Boolean.TRUE : null;
+    }
+
+    void command() {
+        commands.incrementAndGet();
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    @Override
+    public void get(String url) {
+        command();
+        currentUrl = url;
+        elements.clear();
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command();
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        command();
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command();
+        return List.of(element(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command();
+        return element(by);
+    }
+
+    @Override
+    public String getPageSource() {
+        command();
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+        command();
+    }
+
+    @Override
+    public void quit() {
+        command();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command();
+        return Set.of("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        command();
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new StubTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new StubNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return options;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command();
+        return scripts.apply(script);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        command();
+        return null;
+    }
+
+    private class StubNavigation implements Navigation {
+        @Override
+        public void back() {
+            command();
+        }
+
+        @Override
+        public void forward() {
+            command();
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+            command();
+        }
+    }
+
+    private class StubTargetLocator implements TargetLocator {
+        @Override
+        public WebDriver frame(int index) {
+            throw new NoSuchFrameException("StubWebDriver has no frames");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            throw new NoSuchFrameException("StubWebDriver has no frames");
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            throw new NoSuchFrameException("StubWebDriver has no frames");
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            command();
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            command();
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return StubWebDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return element(By.tagName("body"));
+        }
+
+        @Override
+        public Alert alert() {
+            throw new NoAlertPresentException("StubWebDriver never shows alerts");
+        }
+    }
+
+    private class StubOptions implements Options {
+        @Override
+        public void addCookie(Cookie cookie) {
+            command();
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            command();
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            deleteCookieNamed(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            command();
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            command();
+            return Set.copyOf(cookies.values());
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            command();
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return new StubTimeouts();
+        }
+
+        @Override
+        public Window window() {
+            throw new UnsupportedOperationException("StubWebDriver has no window geometry");
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedOperationException("StubWebDriver has no logs");
+        }
+    }
+
+    private class StubTimeouts implements Timeouts {
+        @Override
+        @Deprecated
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return implicitlyWait(Duration.ofNanos(unit.toNanos(time)));
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return scriptTimeout(Duration.ofNanos(unit.toNanos(time)));
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return pageLoadTimeout(Duration.ofNanos(unit.toNanos(time)));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            return implicitWait;
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            scriptTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            return scriptTimeout;
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            pageLoadTimeout = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            return pageLoadTimeout;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.yourcompany.yourproject.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+public class StubWebElement implements WebElement {
+    private final StubWebDriver driver;
+    private final By locator;
+    private final StringBuilder value = new StringBuilder();
+    private boolean displayed = true;
+    private int clicks;
+
+    StubWebElement(StubWebDriver driver, By locator) {
+        this.driver = driver;
+        this.locator = locator;
+    }
+
+    public By locator() {
+        return locator;
+    }
+
+    public String value() {
+        return value.toString();
+    }
+
+    public int clicks() {
+        return clicks;
+    }
+
+    public void setDisplayed(boolean displayed) {
+        this.displayed = displayed;
+    }
+
+    @Override
+    public void click() {
+        driver.command();
+        clicks++;
+    }
+
+    @Override
+    public void submit() {
+        driver.command();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.command();
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+    }
+
+    @Override
+    public void clear() {
+        driver.command();
+        value.setLength(0);
+    }
+
+    @Override
+    public String getTagName() {
+        driver.command();
+        return "input";
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.command();
+        return "value".equals(name) ? value.toString() : null;
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.command();
+        return false;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.command();
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        driver.command();
+        return value.toString();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.findElement(by);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.command();
+        return displayed;
+    }
+
+    @Override
+    public Point getLocation() {
+        driver.command();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        driver.command();
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        driver.command();
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.command();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedOperationException("StubWebElement does not render");
+    }
+
+    @Override
+    public String toString() {
+        return "StubWebElement[" + locator + "]";
+    }
+}
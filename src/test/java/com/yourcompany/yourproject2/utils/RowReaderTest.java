@@ -0,0 +1,72 @@
+package com.yourcompany.yourproject.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+
+public class RowReaderTest {
+
+    @Test
+    public void yamlKeyedRowsTakeTheirKeyAndFlattenNesting() throws IOException {
+        List<Map<String, String>> rows = read(new YamlRowReader(), "products.yaml");
+
+        assertEquals(rows, List.of(
+                Map.of("name", "Widget", "price", "9.99", "size.width", "10", "size.height", "4",
+                        "tags", "blue,small", "id", "widget"),
+                Map.of("name", "Gadget", "price", "25", "id", "gadget")));
+    }
+
+    @Test
+    public void jsonReadsTheFirstTableUnlessOneIsNamed() throws IOException {
+        List<Map<String, String>> open = read(new JsonRowReader(), "orders.json");
+        List<Map<String, String>> closed = read(new JsonRowReader(), "orders.json#closed");
+
+        assertEquals(open, List.of(
+                Map.of("id", "o-1", "customer.name", "Ada", "customer.vip", "true", "total", "12.5"),
+                Map.of("id", "o-2", "customer.name", "Brian", "items", "pen,ink")));
+        assertEquals(closed, List.of(Map.of("id", "c-1", "total", "3")));
+    }
+
+    @Test
+    public void xlsxReadsSharedInlineAndTypedCells() throws IOException {
+        List<Map<String, String>> rows = read(new XlsxRowReader(), "stock.xlsx");
+
+        // Rich text runs are joined and phonetic hints dropped; the date stays a serial number
+        assertEquals(rows.get(0), Map.of("id", "s-1", "name", "Bolt", "qty", "12", "added", "45000",
+                "active", "true"));
+        assertEquals(rows.get(1), Map.of("id", "s-2", "name", "Washer", "active", "false"));
+    }
+
+    @Test
+    public void xlsxKeepsSparseCellsInTheirColumnsAndSkipsEmptyRows() throws IOException {
+        List<Map<String, String>> rows = read(new XlsxRowReader(), "stock.xlsx");
+
+        assertEquals(rows.size(), 3);
+        assertEquals(rows.get(2), Map.of("id", "s-3", "qty", "0.5"));
+    }
+
+    @Test
+    public void xlsxSelectsSheetByName() throws IOException {
+        assertEquals(read(new XlsxRowReader(), "stock.xlsx#Archive"), List.of(Map.of("id", "a-1", "name", "Old nut")));
+        assertEquals(XlsxRowReader.sheetNames(TestData.resolve("stock.xlsx")), List.of("Stock", "Archive"));
+    }
+
+    @Test
+    public void readingStopsWhenTheVisitorDeclines() throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        new XlsxRowReader().read(TestData.resolve("stock.xlsx"), null, row -> rows.add(row) && rows.size() < 2);
+
+        assertEquals(rows.size(), 2);
+    }
+
+    private static List<Map<String, String>> read(RowReader reader, String source) throws IOException {
+        List<Map<String, String>> rows = new ArrayList<>();
+        reader.read(TestData.resolve(source), TestData.part(source), rows::add);
+        return rows;
+    }
+}
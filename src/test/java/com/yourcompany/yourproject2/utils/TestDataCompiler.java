@@ -0,0 +1,54 @@
+package com.yourcompany.yourproject.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+// Build step, run by Maven at process-test-classes: compiles every test data file into a
+// memory-mapped snapshot that TestData picks up instead of parsing, as long as the source content
+// hash still matches.
+//   java TestDataCompiler src/test/resources2/testdata target/testdata-snapshots [Sheet ...]
+// Workbooks compile their first sheet plus any sheet named on the command line.
+public class TestDataCompiler {
+    private static final Logger LOG = Logger.getLogger(TestDataCompiler.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        Path source = Paths.get(args.length > 0 ? args[0] : "src/test/resources2/testdata");
+        Path target = Paths.get(args.length > 1 ? args[1] : "target/testdata-snapshots");
+        System.setProperty("testdata.dir", source.toString());
+        System.setProperty("testdata.snapshot.dir", target.toString());
+        ConfigReader.reload();
+        String keyColumn = ConfigReader.snapshot().getString("testdata.key.column", "id");
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(source)) {
+            files = stream.filter(Files::isRegularFile)
+                    .filter(f -> f.toString().matches(".*\\.(ya?ml|json|xlsx)$")).sorted().toList();
+        }
+        int compiled = 0;
+        for (Path file : files) {
+            String name = source.relativize(file).toString().replace('\\', '/');
+            compile(name, keyColumn);
+            compiled++;
+            if (name.endsWith(".xlsx")) {
+                // Sheet names apply to every workbook; skip the ones that do not have it
+                List<String> sheets = XlsxRowReader.sheetNames(file);
+                for (int i = 2; i < args.length; i++) {
+                    if (sheets.contains(args[i])) {
+                        compile(name + "#" + args[i], keyColumn);
+                        compiled++;
+                    }
+                }
+            }
+        }
+        LOG.info("Compiled " + compiled + " test data tables into " + target);
+    }
+
+    private static void compile(String source, String keyColumn) {
+        byte[] hash = TestDataSnapshot.hash(TestData.resolve(source), TestData.part(source), keyColumn);
+        TestDataSnapshot.write(TestData.parse(source, keyColumn), hash, TestData.snapshotFile(source));
+    }
+}
@@ -0,0 +1,156 @@
+package com.yourcompany.yourproject.utils;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestDataSnapshotTest {
+    private static final byte[] HASH = new byte[32];
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("snapshots");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void roundTripKeepsEveryTypedValue() {
+        TestDataTable table = table(
+                row("id", "1", "active", "true", "name", "alice", "age", "-42"),
+                row("id", "2", "active", "false", "name", "bob"),
+                row("id", "3", "name", "zo\u00eb", "age", "2147483647"));
+
+        TestDataSnapshot snapshot = writeAndOpen(table);
+
+        assertEquals(snapshot.columns(), table.columns());
+        assertEquals(snapshot.keyColumn(), "id");
+        assertEquals(snapshot.rows(), table.rows());
+        assertEquals(snapshot.row("3").get("name"), "zo\u00eb");
+        assertNull(snapshot.value(1, 3));
+        assertNull(snapshot.value(2, 1));
+    }
+
+    @Test
+    public void nonCanonicalNumbersStayStrings() {
+        TestDataTable table = table(
+                row("id", "a", "code", "007"),
+                row("id", "b", "code", "7"),
+                row("id", "c", "code", "+1"));
+
+        TestDataSnapshot snapshot = writeAndOpen(table);
+
+        assertEquals(snapshot.row("a").get("code"), "007");
+        assertEquals(snapshot.row("b").get("code"), "7");
+        assertEquals(snapshot.row("c").get("code"), "+1");
+    }
+
+    @Test
+    public void collidingKeysAreAllFound() {
+        // "Aa" and "BB" share a hashCode, so they land in the same index slot
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        TestDataTable table = table(
+                row("id", "Aa", "value", "first"),
+                row("id", "BB", "value", "second"),
+                row("id", "AaAa", "value", "third"),
+                row("id", "BBBB", "value", "fourth"));
+
+        TestDataSnapshot snapshot = writeAndOpen(table);
+
+        assertEquals(snapshot.row("Aa").get("value"), "first");
+        assertEquals(snapshot.row("BB").get("value"), "second");
+        assertEquals(snapshot.row("AaAa").get("value"), "third");
+        assertEquals(snapshot.row("BBBB").get("value"), "fourth");
+        assertEquals("AaBB".hashCode(), "BBAa".hashCode());
+        assertFalse(snapshot.contains("AaBB"));
+        assertNull(snapshot.row("BBAa"));
+    }
+
+    @Test
+    public void changedSourceInvalidatesSnapshot() throws IOException {
+        Path source = directory.resolve("users.yaml");
+        Files.writeString(source, "- id: 1\n", StandardCharsets.UTF_8);
+        byte[] original = TestDataSnapshot.hash(source, null, "id");
+        Path file = directory.resolve("users.tds");
+        TestDataSnapshot.write(table(row("id", "1")), original, file);
+
+        assertNotNull(TestDataSnapshot.open(file, original));
+        assertNull(TestDataSnapshot.open(file, TestDataSnapshot.hash(source, null, "name")));
+        assertNull(TestDataSnapshot.open(file, TestDataSnapshot.hash(source, "Admins", "id")));
+        Files.writeString(source, "- id: 2\n", StandardCharsets.UTF_8);
+        assertNull(TestDataSnapshot.open(file, TestDataSnapshot.hash(source, null, "id")));
+    }
+
+    @Test
+    public void truncatedSnapshotIsIgnored() throws IOException {
+        Path file = directory.resolve("users.tds");
+        TestDataSnapshot.write(table(row("id", "1", "name", "alice")), HASH, file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertNull(TestDataSnapshot.open(file, HASH));
+    }
+
+    @Test
+    public void writeLeavesNoPartialFiles() throws IOException {
+        Path file = directory.resolve("users.tds");
+        TestDataSnapshot.write(table(row("id", "1")), HASH, file);
+        TestDataSnapshot.write(table(row("id", "2")), HASH, file);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(files.toList(), List.of(file));
+        }
+        assertTrue(TestDataSnapshot.open(file, HASH).contains("2"));
+    }
+
+    private TestDataSnapshot writeAndOpen(TestDataTable table) {
+        Path file = directory.resolve("table.tds");
+        TestDataSnapshot.write(table, HASH, file);
+        TestDataSnapshot snapshot = TestDataSnapshot.open(file, HASH);
+        assertNotNull(snapshot);
+        return snapshot;
+    }
+
+    @SafeVarargs
+    private static TestDataTable table(Map<String, String>... rows) {
+        ParsedTable.Builder builder = new ParsedTable.Builder();
+        for (Map<String, String> row : rows) {
+            builder.add(row);
+        }
+        return builder.build("id");
+    }
+
+    private static Map<String, String> row(String... cells) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < cells.length; i += 2) {
+            row.put(cells[i], cells[i + 1]);
+        }
+        return row;
+    }
+}
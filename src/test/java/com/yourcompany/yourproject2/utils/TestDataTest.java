@@ -0,0 +1,91 @@
+package com.yourcompany.yourproject.utils;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class TestDataTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearTables() {
+        TestData.clear();
+    }
+
+    @Test
+    public void rowsAreFoundByKeyAcrossFormats() {
+        assertEquals(TestData.row("users.yaml", "viewer").get("role"), "read-only");
+        assertEquals(TestData.row("products.yaml", "widget").get("size.width"), "10");
+        assertEquals(TestData.row("orders.json#closed", "c-1").get("total"), "3");
+        assertEquals(TestData.row("stock.xlsx", "s-2").get("name"), "Washer");
+        assertEquals(TestData.rows("stock.xlsx#Archive").size(), 1);
+    }
+
+    @Test
+    public void unknownKeyIsAnError() {
+        assertThrows(IllegalArgumentException.class, () -> TestData.row("users.yaml", "nobody"));
+        assertThrows(IllegalArgumentException.class, () -> TestData.table("missing.yaml"));
+    }
+
+    @Test
+    public void tableIsSharedUntilCleared() {
+        TestDataTable table = TestData.table("products.yaml");
+
+        assertSame(TestData.table("products.yaml"), table);
+        TestData.clear();
+        assertNotSame(TestData.table("products.yaml"), table);
+    }
+
+    @Test
+    public void forEachStopsWhenTheVisitorDeclines() {
+        List<String> ids = new ArrayList<>();
+        TestData.forEach("stock.xlsx", row -> ids.add(row.get("id")) && false);
+
+        assertEquals(ids, List.of("s-1"));
+    }
+
+    @Test
+    public void parsedTableSharesColumnsAcrossRaggedRows() {
+        ParsedTable.Builder builder = new ParsedTable.Builder();
+        builder.add(row("id", "1", "name", "alice"));
+        builder.add(row("age", "30", "id", "2"));
+        builder.add(row("id", "1", "name", "duplicate"));
+        ParsedTable table = builder.build("id");
+
+        assertEquals(table.columns(), List.of("id", "name", "age"));
+        assertEquals(table.keyColumn(), "id");
+        assertEquals(table.row("2"), Map.of("id", "2", "age", "30"));
+        assertEquals(table.row("1").get("name"), "alice");
+        assertNull(table.value(0, 2));
+        assertTrue(table.contains("2"));
+        assertFalse(table.contains("3"));
+    }
+
+    @Test
+    public void missingKeyColumnIsRejected() {
+        ParsedTable.Builder builder = new ParsedTable.Builder();
+        builder.add(row("name", "alice"));
+
+        assertThrows(IllegalArgumentException.class, () -> builder.build("id"));
+        assertNull(new ParsedTable.Builder().build("id").keyColumn());
+    }
+
+    private static Map<String, String> row(String... cells) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < cells.length; i += 2) {
+            row.put(cells[i], cells[i + 1]);
+        }
+        return row;
+    }
+}